@@ -24,6 +24,8 @@ import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.statement.Batch;
 import org.jdbi.v3.core.statement.Call;
 import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.PreparedQuery;
+import org.jdbi.v3.core.statement.PreparedUpdate;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.core.statement.Script;
 import org.jdbi.v3.core.statement.StatementBuilder;
@@ -32,6 +34,7 @@ import org.jdbi.v3.core.transaction.TransactionException;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.jdbi.v3.core.transaction.UnableToManipulateTransactionIsolationLevelException;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -247,6 +250,18 @@ public class Handle implements Closeable, Configurable<Handle> {
         return new Query(this, sql);
     }
 
+    /**
+     * Prepare a query to execute repeatedly. The SQL is rendered and parsed once, instead of on
+     * every execution.
+     *
+     * @param sql SQL that may return results
+     * @return a prepared query, creating {@link Query} instances
+     */
+    @Beta
+    public PreparedQuery prepareQuery(String sql) {
+        return new PreparedQuery(this, sql);
+    }
+
     /**
      * Creates a Script from the given SQL script.
      *
@@ -269,6 +284,18 @@ public class Handle implements Closeable, Configurable<Handle> {
         return new Update(this, sql);
     }
 
+    /**
+     * Prepare an Insert or Update statement to execute repeatedly. The SQL is rendered and parsed
+     * once, instead of on every execution.
+     *
+     * @param sql the statement sql
+     * @return a prepared update, creating {@link Update} instances
+     */
+    @Beta
+    public PreparedUpdate prepareUpdate(String sql) {
+        return new PreparedUpdate(this, sql);
+    }
+
     /**
      * @return whether the handle is in a transaction. Delegates to the underlying
      *         {@link TransactionHandler}.
@@ -15,17 +15,23 @@ package org.jdbi.v3.core;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jdbi.v3.core.internal.JdbiThreadLocals;
 import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 
 class OnDemandExtensions {
     private static final Method EQUALS_METHOD;
     private static final Method HASHCODE_METHOD;
     private static final Method TOSTRING_METHOD;
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
     static {
         try {
@@ -43,6 +49,7 @@ class OnDemandExtensions {
 
     static <E> E create(Jdbi db, Class<E> extensionType) {
         ThreadLocal<E> threadExtension = new ThreadLocal<>();
+        Map<Method, MethodHandle> methodHandles = new ConcurrentHashMap<>();
 
         InvocationHandler handler = (proxy, method, args) -> {
             if (EQUALS_METHOD.equals(method)) {
@@ -58,11 +65,11 @@ class OnDemandExtensions {
             }
 
             if (threadExtension.get() != null) {
-                return invoke(threadExtension.get(), method, args);
+                return invoke(threadExtension.get(), method, args, methodHandles);
             }
             return db.withExtension(extensionType, extension ->
                     JdbiThreadLocals.invokeInContext(threadExtension, extension,
-                            () -> invoke(extension, method, args)));
+                            () -> invoke(extension, method, args, methodHandles)));
         };
 
         return extensionType.cast(
@@ -71,13 +78,28 @@ class OnDemandExtensions {
                         new Class[]{extensionType}, handler));
     }
 
-    private static Object invoke(Object target, Method method, Object[] args) {
+    private static Object invoke(Object target, Method method, Object[] args, Map<Method, MethodHandle> methodHandles) {
         if (Proxy.isProxyClass(target.getClass())) {
             InvocationHandler handler = Proxy.getInvocationHandler(target);
             return Unchecked.<Object[], Object>function((params) -> handler.invoke(target, method, params)).apply(args);
         } else {
-            MethodHandle handle = Unchecked.function(MethodHandles.lookup()::unreflect).apply(method).bindTo(target);
-            return Unchecked.<Object[], Object>function(handle::invokeWithArguments).apply(args);
+            MethodHandle handle = methodHandles.computeIfAbsent(method, OnDemandExtensions::spreadMethodHandle);
+            Object[] params = args == null ? NO_ARGS : args;
+            try {
+                return handle.invokeExact(target, params);
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
         }
     }
+
+    /**
+     * Adapts the method to a handle of type {@code (Object target, Object[] args)Object}, so it can be
+     * unreflected once and invoked exactly with any target.
+     */
+    private static MethodHandle spreadMethodHandle(Method method) {
+        return Unchecked.function(MethodHandles.lookup()::unreflect).apply(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(SPREAD_TYPE);
+    }
 }
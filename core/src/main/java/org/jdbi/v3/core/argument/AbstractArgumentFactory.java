@@ -15,8 +15,10 @@ package org.jdbi.v3.core.argument;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static org.jdbi.v3.core.generic.GenericTypes.findGenericParameter;
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
@@ -46,8 +48,9 @@ import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
  *
  * @param <T> the type of argument supported by this factory.
  */
-public abstract class AbstractArgumentFactory<T> implements ArgumentFactory {
+public abstract class AbstractArgumentFactory<T> implements ArgumentFactory.Preparable {
     private final int sqlType;
+    private final Type argumentType;
     private final ArgumentPredicate isInstance;
 
     /**
@@ -57,7 +60,7 @@ public abstract class AbstractArgumentFactory<T> implements ArgumentFactory {
      */
     protected AbstractArgumentFactory(int sqlType) {
         this.sqlType = sqlType;
-        Type argumentType = findGenericParameter(getClass(), AbstractArgumentFactory.class)
+        this.argumentType = findGenericParameter(getClass(), AbstractArgumentFactory.class)
                 .orElseThrow(() -> new IllegalStateException(getClass().getSimpleName()
                     + " must extend AbstractArgumentFactory with a concrete T parameter"));
 
@@ -81,6 +84,34 @@ public abstract class AbstractArgumentFactory<T> implements ArgumentFactory {
                 : build((T) value, config));
     }
 
+    @Override
+    public final boolean canPrepare(Type type, ConfigRegistry config) {
+        if (!(argumentType instanceof Class)) {
+            return true;
+        }
+        Class<?> argumentClass = (Class<?>) argumentType;
+        Class<?> erasedType = getErasedType(type);
+        if (argumentClass.isAssignableFrom(erasedType)) {
+            return true;
+        }
+        // values of a final type can't be instances of any other class
+        return !erasedType.isPrimitive() && Modifier.isFinal(erasedType.getModifiers());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type type, ConfigRegistry config) {
+        boolean supported = argumentType instanceof Class
+            ? ((Class<?>) argumentType).isAssignableFrom(getErasedType(type))
+            : argumentType.equals(type);
+        if (!supported) {
+            return Optional.empty();
+        }
+        return Optional.of((value, valueConfig) -> value == null
+                ? new NullArgument(sqlType)
+                : build((T) value, valueConfig));
+    }
+
     /**
      * Produce an argument object for the given value.
      *
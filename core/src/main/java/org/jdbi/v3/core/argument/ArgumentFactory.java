@@ -15,9 +15,11 @@ package org.jdbi.v3.core.argument;
 
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Inspect a value with optional static type information and produce
@@ -40,4 +42,49 @@ public interface ArgumentFactory {
      * @see Arguments#findFor(Type, Object)
      */
     Optional<Argument> build(Type type, Object value, ConfigRegistry config);
+
+    /**
+     * An {@link ArgumentFactory} which can decide from the static type alone whether it supports
+     * values of that type. {@link Arguments} asks each preparable factory once per type, and
+     * caches the result: factories which decline a type are skipped for all values of that type,
+     * and the first factory which accepts it binds every value of that type without consulting
+     * the remaining factories.
+     * <p>
+     * These decisions are shared by all copies of the {@link Arguments} config that have the same
+     * factories registered, so they must depend on the type alone: configuration which may differ
+     * between copies must only be read from the config registry passed to the prepared function.
+     * </p>
+     * <p>
+     * Implementations must stay consistent with {@link #build(Type, Object, ConfigRegistry)}: for
+     * any type where {@link #canPrepare(Type, ConfigRegistry)} returns true, {@code build} must
+     * produce the same arguments as the prepared function, or none at all if nothing was prepared.
+     * </p>
+     */
+    @Beta
+    interface Preparable extends ArgumentFactory {
+        /**
+         * Returns whether this factory can decide about values of the given type without seeing
+         * them. Factories which need to inspect each value (e.g. because the type is {@code Object})
+         * return false, and are consulted through {@link #build(Type, Object, ConfigRegistry)} as usual.
+         *
+         * @param type   the known type of the values
+         * @param config the config registry, for composition
+         * @return true if {@link #prepare(Type, ConfigRegistry)} may be called for this type
+         */
+        default boolean canPrepare(Type type, ConfigRegistry config) {
+            return true;
+        }
+
+        /**
+         * Prepares the conversion of values of the given type into arguments. Only called if
+         * {@link #canPrepare(Type, ConfigRegistry)} returned true for the type.
+         *
+         * @param type   the known type of the values
+         * @param config the config registry, for composition
+         * @return a function producing an argument for any value of the given type (including null)
+         *         in the given config registry, or <code>Optional.empty()</code> if this factory does
+         *         not support the type.
+         */
+        Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type type, ConfigRegistry config);
+    }
 }
@@ -15,9 +15,14 @@ package org.jdbi.v3.core.argument;
 
 import java.lang.reflect.Type;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
 import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -25,17 +30,17 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Beta;
 
-import static org.jdbi.v3.core.internal.JdbiStreams.toStream;
-
 /**
  * A registry for ArgumentFactory instances.
  * When a statement with bound parameters is executed, Jdbi consults the
  * Arguments registry to obtain an Argument instance for each bound parameter
  * (see #findFor(...)).
  * The factories are consulted in reverse order of registration (i.e. last-registered wins).
+ * Factories implementing {@link ArgumentFactory.Preparable} are only asked once per type, and their decisions
+ * are shared with copies of this config until either registers another factory.
  */
 public class Arguments implements JdbiConfig<Arguments> {
-    private final List<QualifiedArgumentFactory> factories = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Factories> factories = new AtomicReference<>(Factories.EMPTY);
     private ConfigRegistry registry;
     private Argument untypedNullArgument = new NullArgument(Types.OTHER);
 
@@ -65,7 +70,7 @@ public class Arguments implements JdbiConfig<Arguments> {
     }
 
     private Arguments(Arguments that) {
-        factories.addAll(that.factories);
+        factories.set(that.factories.get());
         untypedNullArgument = that.untypedNullArgument;
     }
 
@@ -80,7 +85,7 @@ public class Arguments implements JdbiConfig<Arguments> {
     }
 
     private Arguments register(QualifiedArgumentFactory factory) {
-        factories.add(0, factory);
+        factories.updateAndGet(f -> f.with(factory));
         return this;
     }
 
@@ -104,9 +109,7 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     @Beta
     public Optional<Argument> findFor(QualifiedType type, Object value) {
-        return factories.stream()
-            .flatMap(factory -> toStream(factory.build(type, value, registry)))
-            .findFirst();
+        return factories.get().chainFor(type, registry).find(type, value, registry);
     }
 
     /**
@@ -132,4 +135,78 @@ public class Arguments implements JdbiConfig<Arguments> {
     public Arguments createCopy() {
         return new Arguments(this);
     }
+
+    /**
+     * An immutable list of factories, along with the chains built from it. Copies of the config share it until
+     * either registers another factory.
+     */
+    private static final class Factories {
+        static final Factories EMPTY = new Factories(Collections.emptyList());
+
+        private final List<QualifiedArgumentFactory> list;
+        private final Map<QualifiedType, FactoryChain> chains = new ConcurrentHashMap<>();
+
+        private Factories(List<QualifiedArgumentFactory> list) {
+            this.list = list;
+        }
+
+        Factories with(QualifiedArgumentFactory factory) {
+            List<QualifiedArgumentFactory> newList = new ArrayList<>(list.size() + 1);
+            newList.add(factory);
+            newList.addAll(list);
+            return new Factories(Collections.unmodifiableList(newList));
+        }
+
+        FactoryChain chainFor(QualifiedType type, ConfigRegistry registry) {
+            // no computeIfAbsent: OptionalArgumentFactory calls back in here for the nested type
+            FactoryChain chain = chains.get(type);
+            if (chain == null) {
+                chain = FactoryChain.of(type, list, registry);
+                chains.put(type, chain);
+            }
+            return chain;
+        }
+    }
+
+    /**
+     * The factories that may support a given type: those which have to see each value, in
+     * registration order, followed by the prepared conversion of the first factory to
+     * accept the type outright, if any.
+     */
+    private static final class FactoryChain {
+        private final QualifiedArgumentFactory[] dynamic;
+        private final BiFunction<Object, ConfigRegistry, Argument> prepared;
+
+        private FactoryChain(List<QualifiedArgumentFactory> dynamic, BiFunction<Object, ConfigRegistry, Argument> prepared) {
+            this.dynamic = dynamic.toArray(new QualifiedArgumentFactory[0]);
+            this.prepared = prepared;
+        }
+
+        static FactoryChain of(QualifiedType type, List<QualifiedArgumentFactory> factories, ConfigRegistry registry) {
+            List<QualifiedArgumentFactory> dynamic = new ArrayList<>();
+            BiFunction<Object, ConfigRegistry, Argument> prepared = null;
+            for (QualifiedArgumentFactory factory : factories) {
+                if (!factory.canPrepare(type, registry)) {
+                    dynamic.add(factory);
+                    continue;
+                }
+                Optional<BiFunction<Object, ConfigRegistry, Argument>> function = factory.prepare(type, registry);
+                if (function.isPresent()) {
+                    prepared = function.get();
+                    break;
+                }
+            }
+            return new FactoryChain(dynamic, prepared);
+        }
+
+        Optional<Argument> find(QualifiedType type, Object value, ConfigRegistry registry) {
+            for (QualifiedArgumentFactory factory : dynamic) {
+                Optional<Argument> argument = factory.build(type, value, registry);
+                if (argument.isPresent()) {
+                    return argument;
+                }
+            }
+            return prepared == null ? Optional.empty() : Optional.of(prepared.apply(value, registry));
+        }
+    }
 }
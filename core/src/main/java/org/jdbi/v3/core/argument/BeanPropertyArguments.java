@@ -13,53 +13,20 @@
  */
 package org.jdbi.v3.core.argument;
 
-import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.Type;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Stream;
-import net.jodah.expiringmap.ExpirationPolicy;
-import net.jodah.expiringmap.ExpiringMap;
 import org.jdbi.v3.core.argument.internal.MethodReturnValueNamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.internal.BeanProperties;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 
-import static java.util.stream.Collectors.toMap;
-import static org.jdbi.v3.core.qualifier.Qualifiers.getQualifiers;
-
 /**
  * Inspect a {@link java.beans} style object and bind parameters
  * based on each of its discovered properties.
  */
 public class BeanPropertyArguments extends MethodReturnValueNamedArgumentFinder {
-    private static final Map<Class<?>, Map<String, PropertyDescriptor>> CLASS_PROPERTY_DESCRIPTORS = ExpiringMap
-        .builder()
-        .expiration(10, TimeUnit.MINUTES)
-        .expirationPolicy(ExpirationPolicy.ACCESSED)
-        .entryLoader((Class<?> type) -> {
-            try {
-                BeanInfo info = Introspector.getBeanInfo(type);
-                return Stream.of(info.getPropertyDescriptors())
-                    .collect(toMap(PropertyDescriptor::getName, Function.identity()));
-            } catch (IntrospectionException e) {
-                throw new UnableToCreateStatementException(
-                    "Failed to introspect object which is supposed to be used to "
-                        + "set named args for a statement via JavaBean properties", e);
-            }
-        })
-        .build();
-
-    private final Map<String, PropertyDescriptor> propertyDescriptors;
+    private final BeanProperties properties;
 
     /**
      * @param prefix an optional prefix (we insert a '.' as a separator)
@@ -68,40 +35,46 @@ public class BeanPropertyArguments extends MethodReturnValueNamedArgumentFinder
     public BeanPropertyArguments(String prefix, Object bean) {
         super(prefix, bean);
 
-        this.propertyDescriptors = CLASS_PROPERTY_DESCRIPTORS.get(bean.getClass());
+        try {
+            this.properties = BeanProperties.of(bean.getClass());
+        } catch (IntrospectionException e) {
+            throw new UnableToCreateStatementException(
+                "Failed to introspect object which is supposed to be used to "
+                    + "set named args for a statement via JavaBean properties", e);
+        }
     }
 
     @Override
     protected Optional<TypedValue> getValue(String name, StatementContext ctx) {
-        PropertyDescriptor descriptor = propertyDescriptors.get(name);
+        BeanProperties.Property property = properties.get(name);
 
-        if (descriptor == null) {
+        if (property == null) {
             return Optional.empty();
         }
 
-        Method getter = getGetter(name, descriptor, ctx);
-        Method setter = descriptor.getWriteMethod();
-        Parameter setterParam = Optional.ofNullable(setter)
-            .map(m -> m.getParameterCount() > 0 ? m.getParameters()[0] : null)
-            .orElse(null);
+        Object value = readProperty(name, property, ctx);
 
-        Type type = getter.getGenericReturnType();
-        Set<Annotation> qualifiers = getQualifiers(getter, setter, setterParam);
-        Object value = invokeMethod(getter, ctx);
-
-        return Optional.of(new TypedValue(type, qualifiers, value));
+        return Optional.of(new TypedValue(property.getType(), property.getQualifiers(), value));
     }
 
-    private Method getGetter(String name, PropertyDescriptor descriptor, StatementContext ctx) {
-        Method getter = descriptor.getReadMethod();
-
-        if (getter == null) {
+    private Object readProperty(String name, BeanProperties.Property property, StatementContext ctx) {
+        if (!property.isReadable()) {
             throw new UnableToCreateStatementException(String.format("No getter method found for "
                     + "bean property [%s] on [%s]",
                 name, obj), ctx);
         }
 
-        return getter;
+        try {
+            return property.read(obj);
+        } catch (IllegalAccessException e) {
+            throw new UnableToCreateStatementException(String.format("Access exception invoking "
+                    + "method [%s] on [%s]",
+                property.getDescriptor().getReadMethod().getName(), obj), e, ctx);
+        } catch (Exception e) {
+            throw new UnableToCreateStatementException(String.format("Invocation target exception invoking "
+                    + "method [%s] on [%s]",
+                property.getDescriptor().getReadMethod().getName(), obj), e, ctx);
+        }
     }
 
     @Override
@@ -17,6 +17,7 @@ import java.lang.reflect.Type;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.jdbi.v3.core.argument.internal.strategies.LoggableSetNullOrBinderArgument;
 import org.jdbi.v3.core.argument.internal.StatementBinder;
@@ -24,7 +25,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
-abstract class DelegatingArgumentFactory implements ArgumentFactory {
+abstract class DelegatingArgumentFactory implements ArgumentFactory.Preparable {
     private final Map<Class<?>, Function<?, Argument>> builders = new IdentityHashMap<>();
 
     @Override
@@ -42,6 +43,19 @@ abstract class DelegatingArgumentFactory implements ArgumentFactory {
         return Optional.ofNullable(reusable).map(r -> r.apply(value));
     }
 
+    @Override
+    public boolean canPrepare(Type expectedType, ConfigRegistry config) {
+        // untyped values are looked up by their runtime class
+        return getErasedType(expectedType) != Object.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type expectedType, ConfigRegistry config) {
+        return Optional.ofNullable((Function<Object, Argument>) builders.get(getErasedType(expectedType)))
+            .map(builder -> (value, valueConfig) -> builder.apply(value));
+    }
+
     <T> void register(Class<T> klass, int sqlType, StatementBinder<T> binder) {
         builders.put(klass, (T value) -> new LoggableSetNullOrBinderArgument<>(value, sqlType, binder));
     }
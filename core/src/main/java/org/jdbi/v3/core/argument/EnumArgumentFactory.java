@@ -15,10 +15,13 @@ package org.jdbi.v3.core.argument;
 
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import org.jdbi.v3.core.argument.internal.strategies.LoggableToStringOrNPEArgument;
 import org.jdbi.v3.core.config.ConfigRegistry;
 
-class EnumArgumentFactory implements ArgumentFactory {
+import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
+
+class EnumArgumentFactory implements ArgumentFactory.Preparable {
     @Override
     public Optional<Argument> build(Type expectedType, Object rawValue, ConfigRegistry config) {
         // Enums must be bound as VARCHAR
@@ -30,4 +33,18 @@ class EnumArgumentFactory implements ArgumentFactory {
             return Optional.empty();
         }
     }
+
+    @Override
+    public boolean canPrepare(Type expectedType, ConfigRegistry config) {
+        // only a type which no enum can be assigned to is ruled out up front; enum types still need a null check
+        Class<?> expectedClass = getErasedType(expectedType);
+        return !expectedClass.isInterface()
+            && !expectedClass.isAssignableFrom(Enum.class)
+            && !Enum.class.isAssignableFrom(expectedClass);
+    }
+
+    @Override
+    public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type expectedType, ConfigRegistry config) {
+        return Optional.empty();
+    }
 }
@@ -13,17 +13,21 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 
+import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
+
 /**
  * Argument factory that matches a specified type and binds
  * it as an {@link ObjectArgument}.
  */
-public class ObjectArgumentFactory implements ArgumentFactory {
+public class ObjectArgumentFactory implements ArgumentFactory.Preparable {
     /**
      * Match the given type and bind as an object without SQL type information.
      * @param type the Java type to match
@@ -58,4 +62,23 @@ public class ObjectArgumentFactory implements ArgumentFactory {
                 ? Optional.of(new ObjectArgument(value, sqlType))
                 : Optional.empty();
     }
+
+    @Override
+    public boolean canPrepare(Type expectedType, ConfigRegistry config) {
+        if (Objects.equals(type, expectedType)) {
+            return true;
+        }
+        // values of a final type can't be instances of any other class
+        Class<?> expectedClass = getErasedType(expectedType);
+        return !expectedClass.isPrimitive()
+            && Modifier.isFinal(expectedClass.getModifiers())
+            && !type.isAssignableFrom(expectedClass);
+    }
+
+    @Override
+    public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type expectedType, ConfigRegistry config) {
+        return Objects.equals(type, expectedType)
+                ? Optional.of((value, valueConfig) -> new ObjectArgument(value, sqlType))
+                : Optional.empty();
+    }
 }
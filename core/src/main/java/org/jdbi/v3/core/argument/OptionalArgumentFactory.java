@@ -60,6 +60,13 @@ class OptionalArgumentFactory extends DelegatingArgumentFactory {
         }
     }
 
+    @Override
+    public boolean canPrepare(Type expectedType, ConfigRegistry config) {
+        // values which might be an Optional are unwrapped and looked up again
+        return !getErasedType(expectedType).isAssignableFrom(Optional.class)
+            && super.canPrepare(expectedType, config);
+    }
+
     private static Type findOptionalType(Type wrapperType, Object nestedValue) {
         if (getErasedType(wrapperType).equals(Optional.class)) {
             Optional<Type> nestedType = findGenericParameter(wrapperType, Optional.class);
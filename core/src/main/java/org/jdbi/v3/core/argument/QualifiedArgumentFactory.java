@@ -18,6 +18,7 @@ import static org.jdbi.v3.core.qualifier.Qualifiers.getQualifiers;
 import java.lang.annotation.Annotation;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -28,10 +29,44 @@ import org.jdbi.v3.meta.Beta;
 interface QualifiedArgumentFactory {
     Optional<Argument> build(QualifiedType type, Object value, ConfigRegistry config);
 
+    /**
+     * @see ArgumentFactory.Preparable#canPrepare(java.lang.reflect.Type, ConfigRegistry)
+     */
+    default boolean canPrepare(QualifiedType type, ConfigRegistry config) {
+        return false;
+    }
+
+    /**
+     * @see ArgumentFactory.Preparable#prepare(java.lang.reflect.Type, ConfigRegistry)
+     */
+    default Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(QualifiedType type, ConfigRegistry config) {
+        return Optional.empty();
+    }
+
     static QualifiedArgumentFactory adapt(ArgumentFactory factory) {
         Set<Annotation> qualifiers = getQualifiers(factory.getClass());
-        return (type, value, config) -> type.getQualifiers().equals(qualifiers)
-            ? factory.build(type.getType(), value, config)
-            : Optional.empty();
+        return new QualifiedArgumentFactory() {
+            @Override
+            public Optional<Argument> build(QualifiedType type, Object value, ConfigRegistry config) {
+                return type.getQualifiers().equals(qualifiers)
+                    ? factory.build(type.getType(), value, config)
+                    : Optional.empty();
+            }
+
+            @Override
+            public boolean canPrepare(QualifiedType type, ConfigRegistry config) {
+                // a qualifier mismatch rules the factory out regardless of the value
+                return !type.getQualifiers().equals(qualifiers)
+                    || factory instanceof ArgumentFactory.Preparable
+                        && ((ArgumentFactory.Preparable) factory).canPrepare(type.getType(), config);
+            }
+
+            @Override
+            public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(QualifiedType type, ConfigRegistry config) {
+                return type.getQualifiers().equals(qualifiers)
+                    ? ((ArgumentFactory.Preparable) factory).prepare(type.getType(), config)
+                    : Optional.empty();
+            }
+        };
     }
 }
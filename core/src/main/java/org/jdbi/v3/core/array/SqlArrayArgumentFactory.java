@@ -17,6 +17,7 @@ import java.lang.reflect.Type;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.jdbi.v3.core.argument.Argument;
@@ -38,7 +39,7 @@ import org.jdbi.v3.core.generic.GenericTypes;
  * @see SqlArrayTypes
  * @see org.jdbi.v3.core.config.Configurable#registerArrayType(SqlArrayType)
  */
-public class SqlArrayArgumentFactory implements ArgumentFactory {
+public class SqlArrayArgumentFactory implements ArgumentFactory.Preparable {
     @Override
     public Optional<Argument> build(Type type, Object value, ConfigRegistry config) {
         Class<?> erasedType = GenericTypes.getErasedType(type);
@@ -64,4 +65,20 @@ public class SqlArrayArgumentFactory implements ArgumentFactory {
                 .flatMap(lookup)
                 .map(arrayType -> new SqlArrayArgument<>(arrayType, value));
     }
+
+    @Override
+    public boolean canPrepare(Type type, ConfigRegistry config) {
+        // the array type is looked up for each value, since copies of the config may register other array types
+        return !isArrayOrCollection(type);
+    }
+
+    @Override
+    public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type type, ConfigRegistry config) {
+        return Optional.empty();
+    }
+
+    private static boolean isArrayOrCollection(Type type) {
+        Class<?> erasedType = GenericTypes.getErasedType(type);
+        return erasedType.isArray() || Collection.class.isAssignableFrom(erasedType);
+    }
 }
@@ -28,11 +28,12 @@ import org.jdbi.v3.core.config.JdbiConfig;
  * Configuration class for SQL array binding and mapping.
  */
 public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
-    private final List<SqlArrayTypeFactory> factories = new CopyOnWriteArrayList<>();
+    private final List<SqlArrayTypeFactory> factories;
     private SqlArrayArgumentStrategy argumentStrategy = SqlArrayArgumentStrategy.SQL_ARRAY;
     private ConfigRegistry registry;
 
     public SqlArrayTypes() {
+        factories = new CopyOnWriteArrayList<>();
         argumentStrategy = SqlArrayArgumentStrategy.SQL_ARRAY;
     }
 
@@ -42,7 +43,7 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
     }
 
     private SqlArrayTypes(SqlArrayTypes that) {
-        factories.addAll(that.factories);
+        factories = new CopyOnWriteArrayList<>(that.factories);
         argumentStrategy = that.argumentStrategy;
     }
 
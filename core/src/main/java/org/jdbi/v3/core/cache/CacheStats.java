@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache;
+
+import java.util.Objects;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * An immutable snapshot of the statistics of one of Jdbi's caches.
+ */
+@Beta
+public final class CacheStats {
+    /**
+     * Statistics of a cache that has never been used.
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maxSize;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, int size, int maxSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the number of lookups that found a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that had to compute a value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries dropped to keep the cache within its bounds
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the total number of lookups
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 1.0 if there were no lookups
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return the number of entries cached when this snapshot was taken
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of entries the cache retains
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Combines these statistics with another set, e.g. to aggregate several caches.
+     *
+     * @param other the statistics to add
+     * @return the combined statistics
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(
+            hitCount + other.hitCount,
+            missCount + other.missCount,
+            evictionCount + other.evictionCount,
+            size + other.size,
+            maxSize + other.maxSize);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheStats that = (CacheStats) o;
+        return hitCount == that.hitCount
+            && missCount == that.missCount
+            && evictionCount == that.evictionCount
+            && size == that.size
+            && maxSize == that.maxSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, evictionCount, size, maxSize);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{"
+            + "hitCount=" + hitCount
+            + ", missCount=" + missCount
+            + ", evictionCount=" + evictionCount
+            + ", size=" + size
+            + ", maxSize=" + maxSize
+            + '}';
+    }
+}
@@ -26,9 +26,10 @@ import org.jdbi.v3.core.config.JdbiConfig;
  * Contains a set of collector factories, registered by the application.
  */
 public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
-    private final List<CollectorFactory> factories = new CopyOnWriteArrayList<>();
+    private final List<CollectorFactory> factories;
 
     public JdbiCollectors() {
+        factories = new CopyOnWriteArrayList<>();
         // TODO move to BuiltInSupportPlugin
         register(new MapCollectorFactory());
         register(new OptionalCollectorFactory());
@@ -40,7 +41,7 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     }
 
     private JdbiCollectors(JdbiCollectors that) {
-        factories.addAll(that.factories);
+        factories = new CopyOnWriteArrayList<>(that.factories);
     }
 
     public JdbiCollectors register(CollectorFactory factory) {
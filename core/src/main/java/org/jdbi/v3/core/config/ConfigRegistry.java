@@ -14,17 +14,20 @@
 package org.jdbi.v3.core.config;
 
 import java.util.Map;
-import java.util.WeakHashMap;
-
-import static java.util.Collections.synchronizedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A registry of {@link JdbiConfig} instances by type.
+ * <p>
+ * Each registry owns its config objects; changes made through them never affect other registries. Copying a
+ * registry copies each of its config objects, so the built-in config objects keep their larger state in immutable
+ * structures which their copies share until either side changes it.
+ * </p>
  *
  * @see Configurable
  */
 public class ConfigRegistry {
-    private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> cache = synchronizedMap(new WeakHashMap<>());
+    private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>();
 
     /**
      * Creates a new config registry.
@@ -32,11 +35,9 @@ public class ConfigRegistry {
     public ConfigRegistry() {}
 
     private ConfigRegistry(ConfigRegistry that) {
-        that.cache.forEach((type, config) -> {
-            JdbiConfig<?> copy = config.createCopy();
-            copy.setRegistry(this);
-            cache.put(type, copy);
-        });
+        that.configs.forEach((type, config) -> configs.put(type, config.createCopy()));
+        // only once every copy is in place, since config objects may look each other up
+        configs.values().forEach(config -> config.setRegistry(this));
     }
 
     /**
@@ -48,16 +49,35 @@ public class ConfigRegistry {
      * @return the given config class instance that belongs to this registry.
      */
     public <C extends JdbiConfig<C>> C get(Class<C> configClass) {
-        return configClass.cast(cache.computeIfAbsent(configClass, type -> {
-            try {
-                C config = configClass.getDeclaredConstructor().newInstance();
-                config.setRegistry(this);
-                return config;
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Unable to instantiate config class " + configClass
-                    + ". Is there a public no-arg constructor?", e);
+        JdbiConfig<?> config = configs.get(configClass);
+        if (config != null) {
+            return configClass.cast(config);
+        }
+        return create(configClass);
+    }
+
+    // no computeIfAbsent: creating a config may look up the configs it depends on
+    private <C extends JdbiConfig<C>> C create(Class<C> configClass) {
+        synchronized (configs) {
+            JdbiConfig<?> existing = configs.get(configClass);
+            if (existing != null) {
+                return configClass.cast(existing);
             }
-        }));
+
+            C config = newInstance(configClass);
+            config.setRegistry(this);
+            configs.put(configClass, config);
+            return config;
+        }
+    }
+
+    private static <C extends JdbiConfig<C>> C newInstance(Class<C> configClass) {
+        try {
+            return configClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate config class " + configClass
+                + ". Is there a public no-arg constructor?", e);
+        }
     }
 
     /**
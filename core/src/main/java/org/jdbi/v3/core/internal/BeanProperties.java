@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.jdbi.v3.core.qualifier.Qualifiers;
+
+/**
+ * The introspected properties of a bean class, with their types, qualifiers and accessors
+ * resolved once per class, so that mapping and binding don't repeat the reflection for every
+ * row, statement or mapper.
+ */
+public final class BeanProperties {
+    private static final ClassValue<BeanProperties> CACHE = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            try {
+                return introspect(type);
+            } catch (IntrospectionException e) {
+                throw new IntrospectionFailed(e);
+            }
+        }
+    };
+
+    private final Map<String, Property> properties;
+
+    private BeanProperties(Map<String, Property> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param type the bean class
+     * @return the properties of the bean class
+     * @throws IntrospectionException if the class can't be introspected
+     */
+    public static BeanProperties of(Class<?> type) throws IntrospectionException {
+        try {
+            return CACHE.get(type);
+        } catch (IntrospectionFailed e) {
+            throw e.failure;
+        }
+    }
+
+    private static BeanProperties introspect(Class<?> type) throws IntrospectionException {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+            properties.put(descriptor.getName(), new Property(descriptor));
+        }
+        return new BeanProperties(Collections.unmodifiableMap(properties));
+    }
+
+    /**
+     * @param name the property name
+     * @return the property, or null if the bean has no such property
+     */
+    public Property get(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * @return all properties, in introspection order
+     */
+    public Collection<Property> getProperties() {
+        return properties.values();
+    }
+
+    /**
+     * A single bean property.
+     */
+    public static final class Property {
+        private final PropertyDescriptor descriptor;
+        private final Type type;
+        private final Set<Annotation> qualifiers;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        // the boxed parameter type of the setter, if there is one
+        private final Class<?> setterType;
+        private final boolean primitiveSetter;
+
+        private Property(PropertyDescriptor descriptor) {
+            this.descriptor = descriptor;
+
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+            Parameter setterParam = writeMethod == null || writeMethod.getParameterCount() == 0
+                ? null
+                : writeMethod.getParameters()[0];
+
+            this.type = genericType(descriptor);
+            this.qualifiers = Qualifiers.getQualifiers(readMethod, writeMethod, setterParam);
+            this.getter = readMethod == null ? null : JdbiAccessors.getter(readMethod);
+            this.setter = writeMethod == null ? null : JdbiAccessors.setter(writeMethod);
+            this.setterType = setterParam == null ? null : MethodType.methodType(setterParam.getType()).wrap().returnType();
+            this.primitiveSetter = setterParam != null && setterParam.getType().isPrimitive();
+        }
+
+        private static Type genericType(PropertyDescriptor descriptor) {
+            Method readMethod = descriptor.getReadMethod();
+            if (readMethod != null) {
+                return readMethod.getGenericReturnType();
+            }
+            Method writeMethod = descriptor.getWriteMethod();
+            if (writeMethod != null) {
+                return writeMethod.getGenericParameterTypes()[0];
+            }
+            return descriptor.getPropertyType();
+        }
+
+        public PropertyDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        public String getName() {
+            return descriptor.getName();
+        }
+
+        /**
+         * @return the generic type of the property, from the getter if there is one, else from the setter
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the qualifiers of the getter, setter and setter parameter
+         */
+        public Set<Annotation> getQualifiers() {
+            return qualifiers;
+        }
+
+        /**
+         * @return whether the property has a getter
+         */
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        /**
+         * @return whether the property has a setter
+         */
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        /**
+         * @param value a value
+         * @return whether the setter can be invoked with the value
+         */
+        public boolean accepts(Object value) {
+            if (setterType == null) {
+                return false;
+            }
+            if (value == null) {
+                return !primitiveSetter;
+            }
+            return setterType.isInstance(value);
+        }
+
+        /**
+         * Reads the property through its getter. Anything thrown by the getter propagates unwrapped.
+         *
+         * @param bean the bean
+         * @return the property value
+         * @throws IllegalAccessException if the getter can't be accessed
+         */
+        public Object read(Object bean) throws IllegalAccessException {
+            return getter.apply(bean);
+        }
+
+        /**
+         * Writes the property through its setter. Anything thrown by the setter propagates unwrapped.
+         *
+         * @param bean the bean
+         * @param value the property value
+         * @throws IllegalAccessException if the setter can't be accessed
+         */
+        public void write(Object bean, Object value) throws IllegalAccessException {
+            setter.accept(bean, value);
+        }
+    }
+
+    private static final class IntrospectionFailed extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final IntrospectionException failure;
+
+        IntrospectionFailed(IntrospectionException failure) {
+            super(failure);
+            this.failure = failure;
+        }
+    }
+}
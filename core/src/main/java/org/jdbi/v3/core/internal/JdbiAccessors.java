@@ -0,0 +1,326 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+
+/**
+ * Turns reflected methods, constructors and fields into functional interfaces, so they can be
+ * invoked repeatedly without the overhead of reflection. Accessors are spun with
+ * {@link LambdaMetafactory} where the member is public and visible to Jdbi, and fall back
+ * to {@link MethodHandle}s otherwise.
+ * <p>
+ * Exceptions thrown by the underlying member propagate unwrapped. An accessor for a member
+ * that can't be accessed throws {@link IllegalAccessException} when invoked, and a constructor
+ * supplier for a type that can't be instantiated throws {@link InstantiationException} or
+ * {@link NoSuchMethodException}.
+ */
+public class JdbiAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_SAM = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_SAM = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType SUPPLIER_SAM = MethodType.methodType(Object.class);
+
+    private JdbiAccessors() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * @param getter a method taking no arguments
+     * @return a function invoking the method on its argument
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter(Method getter) {
+        MethodHandle mh;
+        try {
+            mh = unreflect(getter);
+        } catch (IllegalAccessException e) {
+            return bean -> {
+                throw Sneaky.throwAnyway(e);
+            };
+        }
+
+        if (isVisible(getter)) {
+            try {
+                MethodType instantiated = MethodType.methodType(
+                    mh.type().wrap().returnType(), getter.getDeclaringClass());
+                return (Function<Object, Object>) metafactory(mh, Function.class, "apply", GETTER_SAM, instantiated);
+            } catch (Throwable ignored) {
+                // fall back to the method handle
+            }
+        }
+
+        MethodHandle generic = mh.asType(GETTER_SAM);
+        return bean -> {
+            try {
+                return generic.invokeExact(bean);
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+        };
+    }
+
+    /**
+     * @param setter a method taking one argument
+     * @return a consumer invoking the method on its first argument, passing the second
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> setter(Method setter) {
+        MethodHandle mh;
+        try {
+            mh = unreflect(setter);
+        } catch (IllegalAccessException e) {
+            return (bean, value) -> {
+                throw Sneaky.throwAnyway(e);
+            };
+        }
+
+        if (isVisible(setter)) {
+            try {
+                MethodType instantiated = MethodType.methodType(
+                    void.class, setter.getDeclaringClass(), mh.type().wrap().parameterType(1));
+                return (BiConsumer<Object, Object>) metafactory(mh, BiConsumer.class, "accept", SETTER_SAM, instantiated);
+            } catch (Throwable ignored) {
+                // fall back to the method handle
+            }
+        }
+
+        MethodHandle generic = mh.asType(SETTER_SAM);
+        return (bean, value) -> {
+            try {
+                generic.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+        };
+    }
+
+    /**
+     * @param type a concrete class with a no-arguments constructor
+     * @param <T> the type
+     * @return a supplier creating new instances of the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> constructor(Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            InstantiationException e = new InstantiationException(type.getName());
+            return () -> {
+                throw Sneaky.throwAnyway(e);
+            };
+        }
+
+        MethodHandle mh;
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            mh = unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return () -> {
+                throw Sneaky.throwAnyway(e);
+            };
+        }
+
+        if (isVisible(constructor.getModifiers(), type)) {
+            try {
+                MethodType instantiated = MethodType.methodType(type);
+                return (Supplier<T>) metafactory(mh, Supplier.class, "get", SUPPLIER_SAM, instantiated);
+            } catch (Throwable ignored) {
+                // fall back to the method handle
+            }
+        }
+
+        MethodHandle generic = mh.asType(SUPPLIER_SAM);
+        return () -> {
+            try {
+                Object instance = generic.invokeExact();
+                return (T) instance;
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+        };
+    }
+
+    /**
+     * @param constructor a constructor
+     * @return a function invoking the constructor with an array of arguments, one for each parameter
+     */
+    public static Function<Object[], Object> constructorInvoker(Constructor<?> constructor) {
+        MethodHandle mh;
+        try {
+            mh = unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            return args -> {
+                throw Sneaky.throwAnyway(e);
+            };
+        }
+
+        MethodHandle spread = mh.asFixedArity()
+            .asSpreader(Object[].class, constructor.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        return args -> {
+            try {
+                return spread.invokeExact(args);
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+        };
+    }
+
+    /**
+     * @param field an instance or static field
+     * @return a consumer setting the field of its first argument to the second, with the
+     * semantics of {@link Field#set(Object, Object)}
+     */
+    public static BiConsumer<Object, Object> fieldSetter(Field field) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+            try {
+                MethodHandle generic = unreflectSetter(field).asType(SETTER_SAM);
+                Class<?> fieldType = field.getType();
+                return (bean, value) -> {
+                    // primitive fields also take the wrappers that widen to them, which the method handle checks
+                    if (value == null ? fieldType.isPrimitive() : !fieldType.isPrimitive() && !fieldType.isInstance(value)) {
+                        throw illegalFieldValue(field, value, null);
+                    }
+                    try {
+                        generic.invokeExact(bean, value);
+                    } catch (ClassCastException e) {
+                        throw illegalFieldValue(field, value, e);
+                    } catch (Throwable t) {
+                        throw Sneaky.throwAnyway(t);
+                    }
+                };
+            } catch (IllegalAccessException ignored) {
+                // fall back to reflection
+            }
+        }
+
+        // method handles can't write final fields, so these stay reflective
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            // Field.set will report the illegal access
+        }
+        return (bean, value) -> {
+            try {
+                field.set(bean, value);
+            } catch (IllegalAccessException e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        };
+    }
+
+    private static IllegalArgumentException illegalFieldValue(Field field, Object value, Exception cause) {
+        return new IllegalArgumentException(String.format(
+            "Can not set %s field %s to %s", field.getType().getName(), field.getName(), value), cause);
+    }
+
+    /**
+     * Unreflects a method, making it accessible first if the caller can't access it.
+     *
+     * @param method the method
+     * @return a method handle for the method
+     * @throws IllegalAccessException if the method can't be made accessible
+     */
+    public static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                throw e;
+            }
+            return LOOKUP.unreflect(method);
+        }
+    }
+
+    /**
+     * Unreflects a constructor, making it accessible first if the caller can't access it.
+     *
+     * @param constructor the constructor
+     * @return a method handle for the constructor
+     * @throws IllegalAccessException if the constructor can't be made accessible
+     */
+    public static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            try {
+                constructor.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                throw e;
+            }
+            return LOOKUP.unreflectConstructor(constructor);
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                throw e;
+            }
+            return LOOKUP.unreflectSetter(field);
+        }
+    }
+
+    private static Object metafactory(MethodHandle mh, Class<?> functionalInterface, String name,
+                                      MethodType sam, MethodType instantiated) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, name,
+            MethodType.methodType(functionalInterface), sam, mh, instantiated);
+        return site.getTarget().invoke();
+    }
+
+    private static boolean isVisible(Method method) {
+        return isVisible(method.getModifiers(), method.getDeclaringClass());
+    }
+
+    /**
+     * Spun lambdas link against the member directly from Jdbi's class loader, so only
+     * use them for public members of public classes that Jdbi can see.
+     */
+    private static boolean isVisible(int modifiers, Class<?> declaringClass) {
+        if (!Modifier.isPublic(modifiers)) {
+            return false;
+        }
+        for (Class<?> c = declaringClass; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            // resolves through the class loader of this class; the class is about to be used, so initializing it is harmless
+            return Class.forName(declaringClass.getName()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.cache.CacheStats;
+
+/**
+ * A bounded, thread-safe, loading cache. Lookups are lock-free; once the cache grows past its
+ * maximum size, entries which have not been read since the previous eviction sweep are evicted
+ * first ("second chance" approximation of LRU).
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class JdbiCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Function<? super K, ? extends V> loader;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries to retain
+     * @param loader  computes the value for a key that is not cached. Values must not be null.
+     */
+    public JdbiCache(int maxSize, Function<? super K, ? extends V> loader) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be < 0");
+        }
+        this.maxSize = maxSize;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it if absent.
+     * Concurrent misses on the same key may compute the value more than once,
+     * but only one value is ever retained.
+     *
+     * @param key the key
+     * @return the value
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.touch();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (maxSize == 0) {
+            return value;
+        }
+
+        Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value));
+        if (existing != null) {
+            return existing.value;
+        }
+
+        if (entries.size() > maxSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Drops all cached entries. Statistics are retained.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of entries currently cached
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the maximum number of entries this cache retains
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return a snapshot of the cache statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+    }
+
+    private void evict() {
+        // whoever holds the lock is already making room; everyone else just moves on
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            for (int pass = 0; pass < 2 && entries.size() > maxSize; pass++) {
+                Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+                while (it.hasNext() && entries.size() > maxSize) {
+                    Entry<V> entry = it.next().getValue();
+                    if (entry.accessed) {
+                        entry.accessed = false;
+                    } else {
+                        it.remove();
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        // benign race: a lost update only costs the entry its second chance
+        private boolean accessed;
+
+        Entry(V value) {
+            this.value = value;
+        }
+
+        void touch() {
+            if (!accessed) {
+                accessed = true;
+            }
+        }
+    }
+}
@@ -14,7 +14,10 @@
 package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -31,11 +34,14 @@ import static org.jdbi.v3.core.internal.JdbiStreams.toStream;
  * Configuration registry for {@link ColumnMapperFactory} instances.
  */
 public class ColumnMappers implements JdbiConfig<ColumnMappers> {
-    private final List<QualifiedColumnMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<QualifiedType, ColumnMapper<?>> cache = new ConcurrentHashMap<>();
+    private final List<QualifiedColumnMapperFactory> factories;
+    private volatile Map<QualifiedType, ColumnMapper<?>> cache = new ConcurrentHashMap<>();
+    // the caches of the configs this was copied from, nearest first; valid until a factory is registered
+    private volatile List<Map<QualifiedType, ColumnMapper<?>>> inheritedCaches = Collections.emptyList();
     private ConfigRegistry registry;
 
     public ColumnMappers() {
+        factories = new CopyOnWriteArrayList<>();
         // TODO move to BuiltInSupportPlugin
         register(new SqlArrayMapperFactory());
         register(new JavaTimeMapperFactory());
@@ -55,8 +61,12 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     }
 
     private ColumnMappers(ColumnMappers that) {
-        factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        // shares the factory array until either side registers a factory
+        factories = new CopyOnWriteArrayList<>(that.factories);
+        List<Map<QualifiedType, ColumnMapper<?>>> caches = new ArrayList<>(that.inheritedCaches.size() + 1);
+        caches.add(that.cache);
+        caches.addAll(that.inheritedCaches);
+        inheritedCaches = caches;
     }
 
     /**
@@ -125,7 +135,9 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
 
     private ColumnMappers register(QualifiedColumnMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        // copies may still read the old caches, which stay valid for their factories
+        cache = new ConcurrentHashMap<>();
+        inheritedCaches = Collections.emptyList();
         return this;
     }
 
@@ -176,7 +188,12 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
         // Since column mappers can decorate other column mappers, we have to populate the cache the old fashioned way.
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        ColumnMapper<?> cached = cache.get(type);
+        Map<QualifiedType, ColumnMapper<?>> ownCache = cache;
+        ColumnMapper<?> cached = ownCache.get(type);
+        List<Map<QualifiedType, ColumnMapper<?>>> inherited = inheritedCaches;
+        for (int i = 0; cached == null && i < inherited.size(); i++) {
+            cached = inherited.get(i).get(type);
+        }
 
         if (cached != null) {
             return Optional.of(cached);
@@ -186,7 +203,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
                 .flatMap(factory -> toStream(factory.build(type, registry)))
                 .findFirst();
 
-        mapper.ifPresent(m -> cache.put(type, m));
+        mapper.ifPresent(m -> ownCache.put(type, m));
 
         return mapper;
     }
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A {@link ColumnMapper} that can map columns to {@code double} values without boxing them.
+ * The built-in mapper for {@code double} implements this interface, and
+ * {@link org.jdbi.v3.core.result.ResultBearing#mapToDouble(int)} uses it when it is the
+ * registered mapper for {@code double}.
+ */
+@Beta
+@FunctionalInterface
+public interface DoubleColumnMapper extends ColumnMapper<Double> {
+    /**
+     * Map the given column of the current row of the result set to a {@code double}. This method should not cause the
+     * result set to advance; allow Jdbi to do that, please.
+     *
+     * @param r            the result set being iterated
+     * @param columnNumber the column number to map (starts at 1)
+     * @param ctx          the statement context
+     * @return the value to return for this column
+     * @throws SQLException if anything goes wrong go ahead and let this percolate; Jdbi will handle it
+     */
+    double mapDouble(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException;
+
+    @Override
+    default Double map(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+        return mapDouble(r, columnNumber, ctx);
+    }
+}
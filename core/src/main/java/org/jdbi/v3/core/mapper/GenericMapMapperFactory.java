@@ -20,7 +20,6 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -102,14 +101,15 @@ public class GenericMapMapperFactory implements RowMapperFactory {
 
         @Override
         public RowMapper<Map<String, T>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-            List<String> keyNames = getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange());
+            RowMap.Columns columns = new RowMap.Columns(
+                getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange()));
+            int columnCount = columns.size();
 
             return (r, c) -> {
-                Map<String, T> row = new HashMap<>();
+                RowMap<T> row = new RowMap<>(columns);
 
-                for (int i = 0; i < keyNames.size(); i++) {
-                    T value = mapper.map(r, i + 1, ctx);
-                    row.put(keyNames.get(i), value);
+                for (int i = 0; i < columnCount; i++) {
+                    row.setValue(i, mapper.map(r, i + 1, ctx));
                 }
 
                 return row;
@@ -17,7 +17,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +29,9 @@ import org.jdbi.v3.core.statement.StatementContext;
  * Yo dawg, I heard you like maps, so I made you a mapper that maps rows into {@code Map<String,Object>}. Map
  * keys are column names, while map values are the values in those columns. Map keys are converted to lowercase by
  * default.
+ * <p>
+ * The maps iterate in column order. All rows of a result set share one index of the column names, and each map only
+ * stores the row's values until a key is added or removed.
  *
  * @see GenericMapMapperFactory
  */
@@ -63,13 +65,14 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
 
     @Override
     public RowMapper<Map<String, Object>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs, caseStrategy.apply(ctx));
+        final RowMap.Columns columns = new RowMap.Columns(getColumnNames(rs, caseStrategy.apply(ctx)));
+        final int columnCount = columns.size();
 
         return (r, c) -> {
-            Map<String, Object> row = new LinkedHashMap<>(columnNames.size());
+            RowMap<Object> row = new RowMap<>(columns);
 
-            for (int i = 0; i < columnNames.size(); i++) {
-                row.put(columnNames.get(i), rs.getObject(i + 1));
+            for (int i = 0; i < columnCount; i++) {
+                row.setValue(i, r.getObject(i + 1));
             }
 
             return row;
@@ -35,6 +35,8 @@ import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
  *     <li>{@code float}</li>
  *     <li>{@code double}</li>
  * </ul>
+ * The {@code int}, {@code long} and {@code double} mappers implement {@link IntColumnMapper},
+ * {@link LongColumnMapper} and {@link DoubleColumnMapper}, so they can also map without boxing.
  */
 class PrimitiveMapperFactory implements ColumnMapperFactory {
     private final Map<Class<?>, ColumnMapper<?>> mappers = new IdentityHashMap<>();
@@ -44,10 +46,10 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
         mappers.put(byte.class, primitiveMapper(ResultSet::getByte));
         mappers.put(char.class, primitiveMapper(PrimitiveMapperFactory::getChar));
         mappers.put(short.class, primitiveMapper(ResultSet::getShort));
-        mappers.put(int.class, primitiveMapper(ResultSet::getInt));
-        mappers.put(long.class, primitiveMapper(ResultSet::getLong));
+        mappers.put(int.class, (IntColumnMapper) (r, i, ctx) -> r.getInt(i));
+        mappers.put(long.class, (LongColumnMapper) (r, i, ctx) -> r.getLong(i));
         mappers.put(float.class, primitiveMapper(ResultSet::getFloat));
-        mappers.put(double.class, primitiveMapper(ResultSet::getDouble));
+        mappers.put(double.class, (DoubleColumnMapper) (r, i, ctx) -> r.getDouble(i));
     }
 
     @Override
@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A row of a result set as a map from column names to values, in column order. All rows of
+ * a result set share one {@link Columns} index, so each row only holds an array of its
+ * values.
+ * <p>
+ * Values of existing keys can be replaced in place. The first structural change (adding or
+ * removing a key) copies the row into a {@link LinkedHashMap} that backs it from then on, so
+ * rows behave like the mutable maps they replace. Rows serialize as {@link LinkedHashMap}s.
+ *
+ * @param <V> the value type
+ */
+final class RowMap<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // never serialized: writeReplace substitutes a LinkedHashMap
+    private final Columns columns;
+    private final Object[] values;
+    private Map<String, V> copy;
+
+    /**
+     * Creates a row of nulls, to be filled in with {@link #setValue(int, Object)}.
+     *
+     * @param columns the columns of the result set
+     */
+    RowMap(Columns columns) {
+        this.columns = columns;
+        this.values = new Object[columns.size()];
+    }
+
+    void setValue(int index, Object value) {
+        values[index] = value;
+    }
+
+    @Override
+    public int size() {
+        return copy == null ? values.length : copy.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return copy == null ? columns.indexOf(key) >= 0 : copy.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        int index = columns.indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(String key, V value) {
+        if (copy == null) {
+            int index = columns.indexOf(key);
+            if (index >= 0) {
+                V old = (V) values[index];
+                values[index] = value;
+                return old;
+            }
+        }
+        return copy().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return copy().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        copy().clear();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return copy == null ? new EntrySet() : copy.entrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, V> copy() {
+        if (copy == null) {
+            Map<String, V> map = new LinkedHashMap<>(values.length * 4 / 3 + 1);
+            for (int i = 0; i < values.length; i++) {
+                map.put(columns.names[i], (V) values[i]);
+            }
+            copy = map;
+        }
+        return copy;
+    }
+
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * The column names of a result set, shared by all of its rows.
+     */
+    static final class Columns {
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        /**
+         * @param names the column names, which must be unique
+         */
+        Columns(List<String> names) {
+            this.names = names.toArray(new String[0]);
+            this.indexes = new HashMap<>(this.names.length * 4 / 3 + 1);
+            for (int i = 0; i < this.names.length; i++) {
+                indexes.put(this.names[i], i);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int indexOf(Object name) {
+            Integer index = indexes.get(name);
+            return index == null ? -1 : index;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, V>> {
+        @Override
+        public int size() {
+            return RowMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+            return new Iterator<Entry<String, V>>() {
+                private int next;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public Entry<String, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next++;
+                    return new RowEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    copy().remove(columns.names[last]);
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    private final class RowEntry implements Entry<String, V> {
+        private final int index;
+
+        RowEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return columns.names[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return copy == null ? (V) values[index] : copy.get(getKey());
+        }
+
+        @Override
+        public V setValue(V value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> that = (Entry<?, ?>) o;
+            return getKey().equals(that.getKey())
+                && (getValue() == null ? that.getValue() == null : getValue().equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            V value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
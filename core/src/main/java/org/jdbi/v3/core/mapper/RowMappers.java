@@ -16,7 +16,10 @@ package org.jdbi.v3.core.mapper;
 import static org.jdbi.v3.core.internal.JdbiStreams.toStream;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -30,17 +33,24 @@ import org.jdbi.v3.core.statement.Query;
  * Configuration registry for {@link RowMapperFactory} instances.
  */
 public class RowMappers implements JdbiConfig<RowMappers> {
-    private final List<RowMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<Type, RowMapper<?>> cache = new ConcurrentHashMap<>();
+    private final List<RowMapperFactory> factories;
+    private volatile Map<Type, RowMapper<?>> cache = new ConcurrentHashMap<>();
+    // the caches of the configs this was copied from, nearest first; valid until a factory is registered
+    private volatile List<Map<Type, RowMapper<?>>> inheritedCaches = Collections.emptyList();
     private ConfigRegistry registry;
 
     public RowMappers() {
+        factories = new CopyOnWriteArrayList<>();
         register(MapEntryMapper.factory());
     }
 
     private RowMappers(RowMappers that) {
-        factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        // shares the factory array until either side registers a factory
+        factories = new CopyOnWriteArrayList<>(that.factories);
+        List<Map<Type, RowMapper<?>>> caches = new ArrayList<>(that.inheritedCaches.size() + 1);
+        caches.add(that.cache);
+        caches.addAll(that.inheritedCaches);
+        inheritedCaches = caches;
     }
 
     @Override
@@ -95,7 +105,9 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      */
     public RowMappers register(RowMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        // copies may still read the old caches, which stay valid for their factories
+        cache = new ConcurrentHashMap<>();
+        inheritedCaches = Collections.emptyList();
         return this;
     }
 
@@ -135,7 +147,12 @@ public class RowMappers implements JdbiConfig<RowMappers> {
         // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
         // Since row mappers can decorate other row mappers, we have to populate the cache the old fashioned way.
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        RowMapper<?> cached = cache.get(type);
+        Map<Type, RowMapper<?>> ownCache = cache;
+        RowMapper<?> cached = ownCache.get(type);
+        List<Map<Type, RowMapper<?>>> inherited = inheritedCaches;
+        for (int i = 0; cached == null && i < inherited.size(); i++) {
+            cached = inherited.get(i).get(type);
+        }
 
         if (cached != null) {
             return Optional.of(cached);
@@ -145,7 +162,7 @@ public class RowMappers implements JdbiConfig<RowMappers> {
                 .flatMap(factory -> toStream(factory.build(type, registry)))
                 .findFirst();
 
-        mapper.ifPresent(m -> cache.put(type, m));
+        mapper.ifPresent(m -> ownCache.put(type, m));
 
         return mapper;
     }
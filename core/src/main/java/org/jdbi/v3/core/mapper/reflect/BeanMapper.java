@@ -13,23 +13,22 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
-import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.jdbi.v3.core.internal.BeanProperties;
+import org.jdbi.v3.core.internal.JdbiAccessors;
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -40,8 +39,6 @@ import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.anyColumnsStartWithPrefix;
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
-import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
-import static org.jdbi.v3.core.qualifier.Qualifiers.getQualifiers;
 
 /**
  * A row mapper which maps the columns in a statement into a JavaBean. The default
@@ -122,17 +119,21 @@ public class BeanMapper<T> implements RowMapper<T> {
 
     private final Class<T> type;
     private final String prefix;
-    private final BeanInfo info;
+    private final BeanProperties properties;
+    private final Supplier<T> constructor;
     private final Map<PropertyDescriptor, BeanMapper<?>> nestedMappers = new ConcurrentHashMap<>();
+    private final List<?> mapping;
 
     private BeanMapper(Class<T> type, String prefix) {
         this.type = type;
         this.prefix = prefix.toLowerCase();
         try {
-            info = Introspector.getBeanInfo(type);
+            properties = BeanProperties.of(type);
         } catch (IntrospectionException e) {
             throw new IllegalArgumentException(e);
         }
+        this.constructor = JdbiAccessors.constructor(type);
+        this.mapping = Arrays.asList(BeanMapper.class, type, this.prefix);
     }
 
     @Override
@@ -141,16 +142,21 @@ public class BeanMapper<T> implements RowMapper<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs);
-        final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        ReflectionMappers config = ctx.getConfig(ReflectionMappers.class);
+        return ((Specialization) config.getSpecialization(SpecializationKey.of(mapping, this::specialize, rs, config))).bind(ctx);
+    }
+
+    private Specialization specialize(SpecializationKey key) {
+        final List<String> columnNames = key.getColumnNames();
+        final List<ColumnNameMatcher> columnNameMatchers = key.getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
-        RowMapper<T> result = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+        Specialization result = specialize0(columnNames, columnNameMatchers, unmatchedColumns)
             .orElseThrow(() -> new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (key.isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
 
             throw new IllegalArgumentException(
@@ -160,14 +166,13 @@ public class BeanMapper<T> implements RowMapper<T> {
         return result;
     }
 
-    private Optional<RowMapper<T>> specialize0(StatementContext ctx,
-                                               List<String> columnNames,
-                                               List<ColumnNameMatcher> columnNameMatchers,
-                                               List<String> unmatchedColumns) {
-        final List<RowMapper<?>> mappers = new ArrayList<>();
-        final List<PropertyDescriptor> properties = new ArrayList<>();
+    private Optional<Specialization> specialize0(List<String> columnNames,
+                                                 List<ColumnNameMatcher> columnNameMatchers,
+                                                 List<String> unmatchedColumns) {
+        final List<PropertyMapping> mappings = new ArrayList<>();
 
-        for (PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+        for (BeanProperties.Property property : properties.getProperties()) {
+            PropertyDescriptor descriptor = property.getDescriptor();
             Method getter = descriptor.getReadMethod();
             Method setter = descriptor.getWriteMethod();
             Nested anno = Stream.of(getter, setter)
@@ -182,17 +187,10 @@ public class BeanMapper<T> implements RowMapper<T> {
 
                 findColumnIndex(paramName, columnNames, columnNameMatchers, () -> debugName(descriptor))
                     .ifPresent(index -> {
-                        Parameter setterParam = Optional.ofNullable(setter)
-                            .map(m -> m.getParameterCount() > 0 ? m.getParameters()[0] : null)
-                            .orElse(null);
-
-                        QualifiedType type = QualifiedType.of(propertyType(descriptor))
-                            .with(getQualifiers(getter, setter, setterParam));
-                        ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
-                            .orElse((r, n, c) -> r.getObject(n));
+                        QualifiedType type = QualifiedType.of(property.getType())
+                            .with(property.getQualifiers());
 
-                        mappers.add(new SingleColumnMapper<>(mapper, index + 1));
-                        properties.add(descriptor);
+                        mappings.add(new PropertyMapping(property, index, type, null));
 
                         unmatchedColumns.remove(columnNames.get(index));
                     });
@@ -201,33 +199,17 @@ public class BeanMapper<T> implements RowMapper<T> {
                 if (anyColumnsStartWithPrefix(columnNames, nestedPrefix, columnNameMatchers)) {
                     nestedMappers
                         .computeIfAbsent(descriptor, d -> new BeanMapper<>(d.getPropertyType(), nestedPrefix))
-                        .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
-                        .ifPresent(nestedMapper -> {
-                            mappers.add(nestedMapper);
-                            properties.add(descriptor);
-                        });
+                        .specialize0(columnNames, columnNameMatchers, unmatchedColumns)
+                        .ifPresent(nested -> mappings.add(new PropertyMapping(property, -1, null, nested)));
                 }
             }
         }
 
-        if (mappers.isEmpty() && !columnNames.isEmpty()) {
+        if (mappings.isEmpty() && !columnNames.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of((r, c) -> {
-            T bean = construct();
-
-            for (int i = 0; i < mappers.size(); i++) {
-                RowMapper<?> mapper = mappers.get(i);
-                PropertyDescriptor property = properties.get(i);
-
-                Object value = mapper.map(r, ctx);
-
-                writeProperty(bean, property, value);
-            }
-
-            return bean;
-        });
+        return Optional.of(new Specialization(mappings));
     }
 
     private static String paramName(PropertyDescriptor descriptor) {
@@ -240,37 +222,87 @@ public class BeanMapper<T> implements RowMapper<T> {
                 .orElseGet(descriptor::getName);
     }
 
-    private static Type propertyType(PropertyDescriptor descriptor) {
-        return Optional.ofNullable(descriptor.getReadMethod()).map(Method::getGenericReturnType)
-                .orElseGet(() -> descriptor.getWriteMethod().getGenericParameterTypes()[0]);
-    }
-
     private String debugName(PropertyDescriptor descriptor) {
         return String.format("%s.%s", type.getSimpleName(), descriptor.getName());
     }
 
     private T construct() {
         try {
-            return type.newInstance();
+            return constructor.get();
         } catch (Exception e) {
             throw new IllegalArgumentException(String.format(TYPE_NOT_INSTANTIABLE, type.getName()), e);
         }
     }
 
-    private static void writeProperty(Object bean, PropertyDescriptor property, Object value) {
+    private static void writeProperty(Object bean, BeanProperties.Property property, Object value) {
+        if (!property.isWritable()) {
+            throw new IllegalArgumentException(String.format(MISSING_SETTER, property.getName()));
+        }
+        if (!property.accepts(value)) {
+            throw new IllegalArgumentException(String.format(REFLECTION_ILLEGAL_ARGUMENT_EXCEPTION,
+                property.getDescriptor().getPropertyType(), property.getName()));
+        }
+
         try {
-            Method writeMethod = property.getWriteMethod();
-            if (writeMethod == null) {
-                throw new IllegalArgumentException(String.format(MISSING_SETTER, property.getName()));
-            }
-            writeMethod.invoke(bean, value);
+            property.write(bean, value);
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException(String.format(SETTER_NOT_ACCESSIBLE, property.getName()), e);
-        } catch (InvocationTargetException e) {
+        } catch (Exception e) {
             throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, property.getName()), e);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(String.format(REFLECTION_ILLEGAL_ARGUMENT_EXCEPTION,
-                property.getPropertyType(), property.getName()), e);
+        }
+    }
+
+    /**
+     * The properties of a bean matched to the columns of one result set shape. Column mappers are
+     * looked up for each statement, since they depend on its configuration.
+     */
+    private final class Specialization {
+        private final PropertyMapping[] properties;
+
+        Specialization(List<PropertyMapping> properties) {
+            this.properties = properties.toArray(new PropertyMapping[0]);
+        }
+
+        RowMapper<T> bind(StatementContext ctx) {
+            final RowMapper<?>[] mappers = new RowMapper<?>[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                mappers[i] = properties[i].bind(ctx);
+            }
+
+            return (r, c) -> {
+                T bean = construct();
+
+                for (int i = 0; i < mappers.length; i++) {
+                    Object value = mappers[i].map(r, ctx);
+
+                    writeProperty(bean, properties[i].property, value);
+                }
+
+                return bean;
+            };
+        }
+    }
+
+    private static final class PropertyMapping {
+        private final BeanProperties.Property property;
+        private final int columnIndex;
+        private final QualifiedType type;
+        private final BeanMapper<?>.Specialization nested;
+
+        PropertyMapping(BeanProperties.Property property, int columnIndex, QualifiedType type, BeanMapper<?>.Specialization nested) {
+            this.property = property;
+            this.columnIndex = columnIndex;
+            this.type = type;
+            this.nested = nested;
+        }
+
+        RowMapper<?> bind(StatementContext ctx) {
+            if (nested != null) {
+                return nested.bind(ctx);
+            }
+            ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
+                .orElse((r, n, c) -> r.getObject(n));
+            return new SingleColumnMapper<>(mapper, columnIndex + 1);
         }
     }
 }
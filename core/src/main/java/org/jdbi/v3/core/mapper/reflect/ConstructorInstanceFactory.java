@@ -14,7 +14,6 @@
 package org.jdbi.v3.core.mapper.reflect;
 
 import java.lang.reflect.Constructor;
-import org.jdbi.v3.core.internal.exceptions.Unchecked;
 
 import static java.util.Objects.requireNonNull;
 
@@ -26,11 +25,6 @@ class ConstructorInstanceFactory<T> extends InstanceFactory<T> {
         this.constructor = requireNonNull(constructor, "constructor is null");
     }
 
-    @Override
-    T newInstance(Object... params) {
-        return Unchecked.<Object[], T>function(constructor::newInstance).apply(params);
-    }
-
     @Override
     public String toString() {
         return constructor.toString();
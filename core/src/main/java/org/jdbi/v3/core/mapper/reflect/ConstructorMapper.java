@@ -15,11 +15,13 @@ package org.jdbi.v3.core.mapper.reflect;
 
 import java.beans.ConstructorProperties;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMapperFactory;
@@ -37,7 +40,6 @@ import org.jdbi.v3.core.statement.StatementContext;
 import static org.jdbi.v3.core.mapper.reflect.JdbiConstructors.findFactoryFor;
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.anyColumnsStartWithPrefix;
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
-import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
 import static org.jdbi.v3.core.qualifier.Qualifiers.getQualifiers;
 
 /**
@@ -163,11 +165,13 @@ public class ConstructorMapper<T> implements RowMapper<T> {
     private final String prefix;
     private final ConstructorProperties constructorProperties;
     private final Map<Parameter, ConstructorMapper<?>> nestedMappers = new ConcurrentHashMap<>();
+    private final List<?> mapping;
 
     private ConstructorMapper(InstanceFactory<T> factory, String prefix) {
         this.factory = factory;
         this.prefix = prefix.toLowerCase();
         this.constructorProperties = factory.getAnnotation(ConstructorProperties.class);
+        this.mapping = Arrays.asList(ConstructorMapper.class, factory.getExecutable(), this.prefix);
     }
 
     @Override
@@ -176,34 +180,38 @@ public class ConstructorMapper<T> implements RowMapper<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs);
-        final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        ReflectionMappers config = ctx.getConfig(ReflectionMappers.class);
+        return ((Specialization) config.getSpecialization(SpecializationKey.of(mapping, this::specialize, rs, config))).bind(ctx);
+    }
+
+    private Specialization specialize(SpecializationKey key) {
+        final List<String> columnNames = key.getColumnNames();
+        final List<ColumnNameMatcher> columnNameMatchers = key.getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
-        RowMapper<T> mapper = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+        Specialization specialization = specialize0(columnNames, columnNameMatchers, unmatchedColumns)
             .orElseThrow(() -> new IllegalArgumentException(String.format(
                 UNMATCHED_CONSTRUCTOR_PARAMETERS, factory)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (key.isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
 
             throw new IllegalArgumentException(
                 String.format(UNMATCHED_COLUMNS_STRICT, factory, unmatchedColumns));
         }
 
-        return mapper;
+        return specialization;
     }
 
-    private Optional<RowMapper<T>> specialize0(StatementContext ctx,
-                                               List<String> columnNames,
-                                               List<ColumnNameMatcher> columnNameMatchers,
-                                               List<String> unmatchedColumns) {
+    private Optional<Specialization> specialize0(List<String> columnNames,
+                                                 List<ColumnNameMatcher> columnNameMatchers,
+                                                 List<String> unmatchedColumns) {
         final int count = factory.getParameterCount();
         final Parameter[] parameters = factory.getParameters();
 
-        final RowMapper<?>[] mappers = new RowMapper<?>[count];
+        final List<ParameterMapping> mappings = new ArrayList<>(count);
 
         boolean matchedColumns = false;
         final List<String> unmatchedParameters = new ArrayList<>();
@@ -222,31 +230,28 @@ public class ConstructorMapper<T> implements RowMapper<T> {
                     int colIndex = columnIndex.getAsInt();
                     final QualifiedType type = QualifiedType.of(parameter.getParameterizedType())
                         .with(getQualifiers(parameter));
-                    mappers[i] = ctx.findColumnMapperFor(type)
-                        .map(mapper -> new SingleColumnMapper<>(mapper, colIndex + 1))
-                        .orElseThrow(() -> new IllegalArgumentException(
-                            String.format(MISSING_COLUMN_MAPPER, type, paramName, factory)));
+                    mappings.add(ParameterMapping.column(paramName, colIndex, type));
 
                     matchedColumns = true;
                     unmatchedColumns.remove(columnNames.get(colIndex));
                 } else if (nullable) {
-                    mappers[i] = (r, c) -> null;
+                    mappings.add(ParameterMapping.NULL);
                 } else {
                     unmatchedParameters.add(paramName);
                 }
             } else {
                 final String nestedPrefix = prefix + anno.value();
 
-                final Optional<? extends RowMapper<?>> nestedMapper = nestedMappers
+                final Optional<? extends ConstructorMapper<?>.Specialization> nested = nestedMappers
                     .computeIfAbsent(parameter, p ->
                         new ConstructorMapper<>(findFactoryFor(p.getType()), nestedPrefix))
-                    .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns);
+                    .specialize0(columnNames, columnNameMatchers, unmatchedColumns);
 
-                if (nestedMapper.isPresent()) {
-                    mappers[i] = nestedMapper.get();
+                if (nested.isPresent()) {
+                    mappings.add(ParameterMapping.nested(nested.get()));
                     matchedColumns = true;
                 } else if (nullable) {
-                    mappers[i] = (r, c) -> null;
+                    mappings.add(ParameterMapping.NULL);
                 } else {
                     unmatchedParameters.add(paramName(parameters, i, constructorProperties));
                 }
@@ -262,15 +267,7 @@ public class ConstructorMapper<T> implements RowMapper<T> {
                 UNMATCHED_CONSTRUCTOR_PARAMETER, factory, unmatchedParameters));
         }
 
-        return Optional.of((r, c) -> {
-            final Object[] params = new Object[count];
-
-            for (int i = 0; i < count; i++) {
-                params[i] = mappers[i].map(r, c);
-            }
-
-            return factory.newInstance(params);
-        });
+        return Optional.of(new Specialization(mappings));
     }
 
     private boolean isNullable(Parameter parameter) {
@@ -300,4 +297,168 @@ public class ConstructorMapper<T> implements RowMapper<T> {
             factory.getDeclaringClass().getSimpleName(),
             parameter.getName());
     }
+
+    /**
+     * The constructor parameters matched to the columns of one result set shape. Column mappers are
+     * looked up for each statement, since they depend on its configuration.
+     */
+    private final class Specialization {
+        private final ParameterMapping[] parameters;
+
+        Specialization(List<ParameterMapping> parameters) {
+            this.parameters = parameters.toArray(new ParameterMapping[0]);
+        }
+
+        RowMapper<T> bind(StatementContext ctx) {
+            final int count = parameters.length;
+            final RowMapper<?>[] mappers = new RowMapper<?>[count];
+            for (int i = 0; i < count; i++) {
+                mappers[i] = parameters[i].bind(ctx, factory);
+            }
+
+            return instantiate(mappers);
+        }
+
+        /**
+         * Passes the mapped columns straight to the factory's method handle for the common
+         * arities, so that mapping a row does not allocate an argument array.
+         */
+        @SuppressWarnings("unchecked")
+        private RowMapper<T> instantiate(RowMapper<?>[] mappers) {
+            final MethodHandle invoker = factory.getInvoker();
+
+            switch (mappers.length) {
+                case 0:
+                    return (r, c) -> {
+                        try {
+                            return (T) invoker.invokeExact();
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                case 1: {
+                    final RowMapper<?> m0 = mappers[0];
+                    return (r, c) -> {
+                        final Object a0 = m0.map(r, c);
+                        try {
+                            return (T) invoker.invokeExact(a0);
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                }
+                case 2: {
+                    final RowMapper<?> m0 = mappers[0];
+                    final RowMapper<?> m1 = mappers[1];
+                    return (r, c) -> {
+                        final Object a0 = m0.map(r, c);
+                        final Object a1 = m1.map(r, c);
+                        try {
+                            return (T) invoker.invokeExact(a0, a1);
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                }
+                case 3: {
+                    final RowMapper<?> m0 = mappers[0];
+                    final RowMapper<?> m1 = mappers[1];
+                    final RowMapper<?> m2 = mappers[2];
+                    return (r, c) -> {
+                        final Object a0 = m0.map(r, c);
+                        final Object a1 = m1.map(r, c);
+                        final Object a2 = m2.map(r, c);
+                        try {
+                            return (T) invoker.invokeExact(a0, a1, a2);
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                }
+                case 4: {
+                    final RowMapper<?> m0 = mappers[0];
+                    final RowMapper<?> m1 = mappers[1];
+                    final RowMapper<?> m2 = mappers[2];
+                    final RowMapper<?> m3 = mappers[3];
+                    return (r, c) -> {
+                        final Object a0 = m0.map(r, c);
+                        final Object a1 = m1.map(r, c);
+                        final Object a2 = m2.map(r, c);
+                        final Object a3 = m3.map(r, c);
+                        try {
+                            return (T) invoker.invokeExact(a0, a1, a2, a3);
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                }
+                case 5: {
+                    final RowMapper<?> m0 = mappers[0];
+                    final RowMapper<?> m1 = mappers[1];
+                    final RowMapper<?> m2 = mappers[2];
+                    final RowMapper<?> m3 = mappers[3];
+                    final RowMapper<?> m4 = mappers[4];
+                    return (r, c) -> {
+                        final Object a0 = m0.map(r, c);
+                        final Object a1 = m1.map(r, c);
+                        final Object a2 = m2.map(r, c);
+                        final Object a3 = m3.map(r, c);
+                        final Object a4 = m4.map(r, c);
+                        try {
+                            return (T) invoker.invokeExact(a0, a1, a2, a3, a4);
+                        } catch (Throwable t) {
+                            throw Sneaky.throwAnyway(t);
+                        }
+                    };
+                }
+                default:
+                    return (r, c) -> {
+                        final Object[] params = new Object[mappers.length];
+
+                        for (int i = 0; i < mappers.length; i++) {
+                            params[i] = mappers[i].map(r, c);
+                        }
+
+                        return factory.newInstance(params);
+                    };
+            }
+        }
+    }
+
+    private static final class ParameterMapping {
+        static final ParameterMapping NULL = new ParameterMapping(null, -1, null, null);
+
+        private final String paramName;
+        private final int columnIndex;
+        private final QualifiedType type;
+        private final ConstructorMapper<?>.Specialization nested;
+
+        private ParameterMapping(String paramName, int columnIndex, QualifiedType type, ConstructorMapper<?>.Specialization nested) {
+            this.paramName = paramName;
+            this.columnIndex = columnIndex;
+            this.type = type;
+            this.nested = nested;
+        }
+
+        static ParameterMapping column(String paramName, int columnIndex, QualifiedType type) {
+            return new ParameterMapping(paramName, columnIndex, type, null);
+        }
+
+        static ParameterMapping nested(ConstructorMapper<?>.Specialization nested) {
+            return new ParameterMapping(null, -1, null, nested);
+        }
+
+        RowMapper<?> bind(StatementContext ctx, InstanceFactory<?> factory) {
+            if (nested != null) {
+                return nested.bind(ctx);
+            }
+            if (type == null) {
+                return (r, c) -> null;
+            }
+            return ctx.findColumnMapperFor(type)
+                .map(mapper -> new SingleColumnMapper<>(mapper, columnIndex + 1))
+                .orElseThrow(() -> new IllegalArgumentException(
+                    String.format(MISSING_COLUMN_MAPPER, type, paramName, factory)));
+        }
+    }
 }
@@ -17,10 +17,14 @@ import java.lang.reflect.Field;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.jdbi.v3.core.internal.JdbiAccessors;
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -31,7 +35,6 @@ import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.anyColumnsStartWithPrefix;
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
-import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
 import static org.jdbi.v3.core.qualifier.Qualifiers.getQualifiers;
 
 /**
@@ -100,11 +103,16 @@ public class FieldMapper<T> implements RowMapper<T> {
 
     private final Class<T> type;
     private final String prefix;
+    private final Supplier<T> constructor;
     private final Map<Field, FieldMapper<?>> nestedMappers = new ConcurrentHashMap<>();
+    private final Map<Field, BiConsumer<Object, Object>> setters = new ConcurrentHashMap<>();
+    private final List<?> mapping;
 
     private FieldMapper(Class<T> type, String prefix) {
         this.type = type;
         this.prefix = prefix.toLowerCase();
+        this.constructor = JdbiAccessors.constructor(type);
+        this.mapping = Arrays.asList(FieldMapper.class, type, this.prefix);
     }
 
     @Override
@@ -113,30 +121,33 @@ public class FieldMapper<T> implements RowMapper<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs);
-        final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        ReflectionMappers config = ctx.getConfig(ReflectionMappers.class);
+        return ((Specialization) config.getSpecialization(SpecializationKey.of(mapping, this::specialize, rs, config))).bind(ctx);
+    }
+
+    private Specialization specialize(SpecializationKey key) {
+        final List<String> columnNames = key.getColumnNames();
+        final List<ColumnNameMatcher> columnNameMatchers = key.getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
-        RowMapper<T> mapper = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+        Specialization specialization = specialize0(columnNames, columnNameMatchers, unmatchedColumns)
             .orElseThrow(() -> new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (key.isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
             throw new IllegalArgumentException(
                 String.format(UNMATCHED_COLUMNS_STRICT, type.getSimpleName(), unmatchedColumns));
         }
 
-        return mapper;
+        return specialization;
     }
 
-    private Optional<RowMapper<T>> specialize0(StatementContext ctx,
-                                               List<String> columnNames,
-                                               List<ColumnNameMatcher> columnNameMatchers,
-                                               List<String> unmatchedColumns) {
-        final List<RowMapper<?>> mappers = new ArrayList<>();
-        final List<Field> fields = new ArrayList<>();
+    private Optional<Specialization> specialize0(List<String> columnNames,
+                                                 List<ColumnNameMatcher> columnNameMatchers,
+                                                 List<String> unmatchedColumns) {
+        final List<FieldMapping> fields = new ArrayList<>();
 
         for (Class<?> aType = type; aType != null; aType = aType.getSuperclass()) {
             for (Field field : aType.getDeclaredFields()) {
@@ -148,10 +159,7 @@ public class FieldMapper<T> implements RowMapper<T> {
                         .ifPresent(index -> {
                             QualifiedType type = QualifiedType.of(field.getGenericType())
                                 .with(getQualifiers(field));
-                            ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
-                                .orElse((r, n, c) -> r.getObject(n));
-                            mappers.add(new SingleColumnMapper<>(mapper, index + 1));
-                            fields.add(field);
+                            fields.add(new FieldMapping(field, setter(field), index, type, null));
 
                             unmatchedColumns.remove(columnNames.get(index));
                         });
@@ -161,33 +169,23 @@ public class FieldMapper<T> implements RowMapper<T> {
                     if (anyColumnsStartWithPrefix(columnNames, nestedPrefix, columnNameMatchers)) {
                         nestedMappers
                             .computeIfAbsent(field, f -> new FieldMapper<>(field.getType(), nestedPrefix))
-                            .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
-                            .ifPresent(mapper -> {
-                                mappers.add(mapper);
-                                fields.add(field);
-                            });
+                            .specialize0(columnNames, columnNameMatchers, unmatchedColumns)
+                            .ifPresent(nested -> fields.add(
+                                new FieldMapping(field, setter(field), -1, null, nested)));
                     }
                 }
             }
         }
 
-        if (mappers.isEmpty() && !columnNames.isEmpty()) {
+        if (fields.isEmpty() && !columnNames.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of((r, c) -> {
-            T obj = construct();
-
-            for (int i = 0; i < mappers.size(); i++) {
-                RowMapper<?> mapper = mappers.get(i);
-                Field field = fields.get(i);
-
-                Object value = mapper.map(r, ctx);
-                writeField(obj, field, value);
-            }
+        return Optional.of(new Specialization(fields));
+    }
 
-            return obj;
-        });
+    private BiConsumer<Object, Object> setter(Field field) {
+        return setters.computeIfAbsent(field, JdbiAccessors::fieldSetter);
     }
 
     private static String paramName(Field field) {
@@ -202,19 +200,77 @@ public class FieldMapper<T> implements RowMapper<T> {
 
     private T construct() {
         try {
-            return type.newInstance();
+            return constructor.get();
         } catch (Exception e) {
             throw new IllegalArgumentException(String.format(TYPE_NOT_INSTANTIABLE, type.getName()), e);
         }
     }
 
-    private void writeField(T obj, Field field, Object value) {
+    private static void writeField(Object obj, FieldMapping field, Object value) {
         try {
-            field.setAccessible(true);
-            field.set(obj, value);
+            field.write(obj, value);
         } catch (IllegalAccessException e) {
-            throw new IllegalArgumentException(String.format(CANNOT_ACCESS_PROPERTY, field.getName()), e);
+            throw new IllegalArgumentException(String.format(CANNOT_ACCESS_PROPERTY, field.field.getName()), e);
         }
     }
-}
 
+    /**
+     * The fields of a type matched to the columns of one result set shape. Column mappers are
+     * looked up for each statement, since they depend on its configuration.
+     */
+    private final class Specialization {
+        private final FieldMapping[] fields;
+
+        Specialization(List<FieldMapping> fields) {
+            this.fields = fields.toArray(new FieldMapping[0]);
+        }
+
+        RowMapper<T> bind(StatementContext ctx) {
+            final RowMapper<?>[] mappers = new RowMapper<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                mappers[i] = fields[i].bind(ctx);
+            }
+
+            return (r, c) -> {
+                T obj = construct();
+
+                for (int i = 0; i < mappers.length; i++) {
+                    Object value = mappers[i].map(r, ctx);
+                    writeField(obj, fields[i], value);
+                }
+
+                return obj;
+            };
+        }
+    }
+
+    private static final class FieldMapping {
+        private final Field field;
+        private final BiConsumer<Object, Object> setter;
+        private final int columnIndex;
+        private final QualifiedType type;
+        private final FieldMapper<?>.Specialization nested;
+
+        FieldMapping(Field field, BiConsumer<Object, Object> setter, int columnIndex, QualifiedType type, FieldMapper<?>.Specialization nested) {
+            this.field = field;
+            this.setter = setter;
+            this.columnIndex = columnIndex;
+            this.type = type;
+            this.nested = nested;
+        }
+
+        RowMapper<?> bind(StatementContext ctx) {
+            if (nested != null) {
+                return nested.bind(ctx);
+            }
+            ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
+                .orElse((r, n, c) -> r.getObject(n));
+            return new SingleColumnMapper<>(mapper, columnIndex + 1);
+        }
+
+        // the reflective setter of an inaccessible field throws IllegalAccessException undeclared
+        void write(Object obj, Object value) throws IllegalAccessException {
+            setter.accept(obj, value);
+        }
+    }
+}
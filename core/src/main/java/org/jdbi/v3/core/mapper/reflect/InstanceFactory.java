@@ -15,16 +15,33 @@ package org.jdbi.v3.core.mapper.reflect;
 
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
+import org.jdbi.v3.core.internal.JdbiAccessors;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 
 import static java.util.Objects.requireNonNull;
 
 abstract class InstanceFactory<T> {
     private final Executable executable;
+    private final MethodHandle invoker;
+    private final MethodHandle spreadInvoker;
 
     protected InstanceFactory(Executable executable) {
         this.executable = requireNonNull(executable, "executable is null");
+        this.invoker = genericInvoker(executable);
+        this.spreadInvoker = invoker.asSpreader(Object[].class, invoker.type().parameterCount());
+    }
+
+    Executable getExecutable() {
+        return executable;
     }
 
     Class<?> getDeclaringClass() {
@@ -44,8 +61,45 @@ abstract class InstanceFactory<T> {
         return executable.getAnnotation(annotationClass);
     }
 
-    abstract T newInstance(Object... params);
+    /**
+     * Returns a method handle invoking this factory, which takes each of the
+     * {@link #getParameterCount()} parameters as an {@code Object} and returns an {@code Object}.
+     * Lets callers with a fixed number of arguments avoid allocating an array for each instance.
+     */
+    MethodHandle getInvoker() {
+        return invoker;
+    }
+
+    @SuppressWarnings("unchecked")
+    T newInstance(Object... params) {
+        try {
+            return (T) spreadInvoker.invokeExact(params);
+        } catch (Throwable t) {
+            throw Sneaky.throwAnyway(t);
+        }
+    }
 
     @Override
     public abstract String toString();
+
+    private static MethodHandle genericInvoker(Executable executable) {
+        // instance methods are rejected by StaticMethodInstanceFactory, but are
+        // unreflected with an extra receiver parameter before it gets to check
+        int arity = Modifier.isStatic(executable.getModifiers()) || executable instanceof Constructor
+            ? executable.getParameterCount()
+            : executable.getParameterCount() + 1;
+
+        MethodHandle target;
+        try {
+            target = executable instanceof Constructor
+                ? JdbiAccessors.unreflectConstructor((Constructor<?>) executable)
+                : JdbiAccessors.unreflect((Method) executable);
+        } catch (IllegalAccessException e) {
+            target = MethodHandles.dropArguments(
+                MethodHandles.throwException(Object.class, IllegalAccessException.class).bindTo(e),
+                0, Collections.nCopies(arity, Object.class));
+        }
+
+        return target.asFixedArity().asType(MethodType.genericMethodType(arity));
+    }
 }
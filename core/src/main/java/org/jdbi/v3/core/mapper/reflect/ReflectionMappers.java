@@ -18,14 +18,24 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.jdbi.v3.core.cache.CacheStats;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.internal.JdbiCache;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for reflective mappers.
  */
 public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
+    /**
+     * The number of column matchings, by mapping and result set shape, that a configuration remembers.
+     */
+    private static final int SPECIALIZATION_CACHE_SIZE = 1000;
+
     private List<ColumnNameMatcher> columnNameMatchers;
     private boolean strictMatching;
+    // shared with copies: the keys hold every setting a column matching depends on
+    private final JdbiCache<SpecializationKey, Object> specializations;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -36,11 +46,13 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
                 new CaseInsensitiveColumnNameMatcher(),
                 new SnakeCaseColumnNameMatcher());
         strictMatching = false;
+        specializations = new JdbiCache<>(SPECIALIZATION_CACHE_SIZE, SpecializationKey::specialize);
     }
 
     private ReflectionMappers(ReflectionMappers that) {
         columnNameMatchers = new ArrayList<>(that.columnNameMatchers);
         strictMatching = that.strictMatching;
+        specializations = that.specializations;
     }
 
     /**
@@ -82,6 +94,19 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return this;
     }
 
+    /**
+     * @return statistics of the cache of column matchings, by mapping and result set shape, which
+     * BeanMapper, FieldMapper and ConstructorMapper share with this configuration and its copies
+     */
+    @Beta
+    public CacheStats getSpecializationCacheStats() {
+        return specializations.getStats();
+    }
+
+    Object getSpecialization(SpecializationKey key) {
+        return specializations.get(key);
+    }
+
     @Override
     public ReflectionMappers createCopy() {
         return new ReflectionMappers(this);
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Everything a reflective mapper's column matching depends on: the mapping itself (mapper class, mapped
+ * type and prefix), the column labels of the result set, and the {@link ReflectionMappers} settings.
+ * {@link ReflectionMappers} caches column matchings by this key, so result sets of the same shape skip
+ * introspection, even for mappers created per query such as {@code mapToBean}.
+ */
+final class SpecializationKey {
+    private final List<?> mapping;
+    private final Function<SpecializationKey, ?> specializer;
+    private final List<String> columnNames;
+    private final List<ColumnNameMatcher> columnNameMatchers;
+    private final boolean strictMatching;
+    private final int hashCode;
+
+    private SpecializationKey(List<?> mapping,
+                              Function<SpecializationKey, ?> specializer,
+                              List<String> columnNames,
+                              List<ColumnNameMatcher> columnNameMatchers,
+                              boolean strictMatching) {
+        this.mapping = mapping;
+        this.specializer = specializer;
+        this.columnNames = columnNames;
+        this.columnNameMatchers = columnNameMatchers;
+        this.strictMatching = strictMatching;
+        this.hashCode = 31 * (31 * (31 * mapping.hashCode() + columnNames.hashCode()) + columnNameMatchers.hashCode())
+            + Boolean.hashCode(strictMatching);
+    }
+
+    /**
+     * @param mapping     identifies the mapping: equal mappings must match columns the same way
+     * @param specializer matches the columns on a cache miss; not part of the key
+     * @param rs          the result set to match
+     * @param config      the reflection mapper settings
+     * @return the key
+     * @throws SQLException if the column labels cannot be read
+     */
+    static SpecializationKey of(List<?> mapping,
+                                Function<SpecializationKey, ?> specializer,
+                                ResultSet rs,
+                                ReflectionMappers config) throws SQLException {
+        return new SpecializationKey(mapping, specializer,
+            ReflectionMapperUtil.getColumnNames(rs), config.getColumnNameMatchers(), config.isStrictMatching());
+    }
+
+    Object specialize() {
+        return specializer.apply(this);
+    }
+
+    List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    List<ColumnNameMatcher> getColumnNameMatchers() {
+        return columnNameMatchers;
+    }
+
+    boolean isStrictMatching() {
+        return strictMatching;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpecializationKey)) {
+            return false;
+        }
+        SpecializationKey that = (SpecializationKey) o;
+        return hashCode == that.hashCode
+            && strictMatching == that.strictMatching
+            && mapping.equals(that.mapping)
+            && columnNames.equals(that.columnNames)
+            && columnNameMatchers.equals(that.columnNameMatchers);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
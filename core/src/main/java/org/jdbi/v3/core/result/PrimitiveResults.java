@@ -0,0 +1,223 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Streams a single column of a result set as primitive values, using the unboxed interface
+ * of the registered column mapper where it has one. Like {@link ResultIterable#stream()},
+ * the streams release their database resources when exhausted or closed.
+ */
+class PrimitiveResults {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private PrimitiveResults() {
+        throw new UtilityClassException();
+    }
+
+    static IntStream intStream(Supplier<ResultSet> supplier, int column, StatementContext ctx) {
+        IntColumnMapper mapper = intMapper(ctx);
+        Cursor cursor = new Cursor(supplier, ctx);
+        Spliterator.OfInt spliterator = new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (!cursor.advance()) {
+                    return false;
+                }
+                action.accept(cursor.mapInt(mapper, column));
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(IntConsumer action) {
+                while (cursor.advance()) {
+                    action.accept(cursor.mapInt(mapper, column));
+                }
+            }
+        };
+        return StreamSupport.intStream(spliterator, false).onClose(ctx::close);
+    }
+
+    static LongStream longStream(Supplier<ResultSet> supplier, int column, StatementContext ctx) {
+        LongColumnMapper mapper = longMapper(ctx);
+        Cursor cursor = new Cursor(supplier, ctx);
+        Spliterator.OfLong spliterator = new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if (!cursor.advance()) {
+                    return false;
+                }
+                action.accept(cursor.mapLong(mapper, column));
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(LongConsumer action) {
+                while (cursor.advance()) {
+                    action.accept(cursor.mapLong(mapper, column));
+                }
+            }
+        };
+        return StreamSupport.longStream(spliterator, false).onClose(ctx::close);
+    }
+
+    static DoubleStream doubleStream(Supplier<ResultSet> supplier, int column, StatementContext ctx) {
+        DoubleColumnMapper mapper = doubleMapper(ctx);
+        Cursor cursor = new Cursor(supplier, ctx);
+        Spliterator.OfDouble spliterator = new Spliterators.AbstractDoubleSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if (!cursor.advance()) {
+                    return false;
+                }
+                action.accept(cursor.mapDouble(mapper, column));
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(DoubleConsumer action) {
+                while (cursor.advance()) {
+                    action.accept(cursor.mapDouble(mapper, column));
+                }
+            }
+        };
+        return StreamSupport.doubleStream(spliterator, false).onClose(ctx::close);
+    }
+
+    static IntColumnMapper intMapper(StatementContext ctx) {
+        ColumnMapper<?> mapper = findMapper(int.class, ctx);
+        if (mapper instanceof IntColumnMapper) {
+            return (IntColumnMapper) mapper;
+        }
+        return (r, i, c) -> {
+            Object value = mapper.map(r, i, c);
+            return value == null ? 0 : ((Number) value).intValue();
+        };
+    }
+
+    static LongColumnMapper longMapper(StatementContext ctx) {
+        ColumnMapper<?> mapper = findMapper(long.class, ctx);
+        if (mapper instanceof LongColumnMapper) {
+            return (LongColumnMapper) mapper;
+        }
+        return (r, i, c) -> {
+            Object value = mapper.map(r, i, c);
+            return value == null ? 0L : ((Number) value).longValue();
+        };
+    }
+
+    static DoubleColumnMapper doubleMapper(StatementContext ctx) {
+        ColumnMapper<?> mapper = findMapper(double.class, ctx);
+        if (mapper instanceof DoubleColumnMapper) {
+            return (DoubleColumnMapper) mapper;
+        }
+        return (r, i, c) -> {
+            Object value = mapper.map(r, i, c);
+            return value == null ? 0d : ((Number) value).doubleValue();
+        };
+    }
+
+    static ColumnMapper<?> findMapper(Type type, StatementContext ctx) {
+        return ctx.findColumnMapperFor(type)
+            .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + type));
+    }
+
+    /**
+     * Advances the result set and closes the statement context once it is exhausted.
+     */
+    private static class Cursor {
+        private final ResultSet results;
+        private final StatementContext ctx;
+        private boolean closed;
+
+        Cursor(Supplier<ResultSet> supplier, StatementContext ctx) {
+            this.results = supplier.get();
+            this.ctx = ctx;
+            ctx.addCleanable(results::close);
+        }
+
+        boolean advance() {
+            if (closed) {
+                return false;
+            }
+            boolean next;
+            try {
+                next = results.next();
+            } catch (SQLException e) {
+                close();
+                throw new ResultSetException("Unable to advance result set", e, ctx);
+            }
+            if (!next) {
+                close();
+            }
+            return next;
+        }
+
+        int mapInt(IntColumnMapper mapper, int column) {
+            try {
+                return mapper.mapInt(results, column, ctx);
+            } catch (SQLException e) {
+                close();
+                throw mappingException(e);
+            }
+        }
+
+        long mapLong(LongColumnMapper mapper, int column) {
+            try {
+                return mapper.mapLong(results, column, ctx);
+            } catch (SQLException e) {
+                close();
+                throw mappingException(e);
+            }
+        }
+
+        double mapDouble(DoubleColumnMapper mapper, int column) {
+            try {
+                return mapper.mapDouble(results, column, ctx);
+            } catch (SQLException e) {
+                close();
+                throw mappingException(e);
+            }
+        }
+
+        private ResultSetException mappingException(SQLException e) {
+            return new ResultSetException("Error thrown mapping result set into return type", e, ctx);
+        }
+
+        private void close() {
+            closed = true;
+            ctx.close();
+        }
+    }
+}
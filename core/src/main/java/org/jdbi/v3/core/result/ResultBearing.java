@@ -22,6 +22,9 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.jdbi.v3.core.collector.ElementTypeNotFoundException;
 import org.jdbi.v3.core.collector.NoSuchCollectorException;
@@ -216,6 +219,57 @@ public interface ResultBearing {
         return scanResultSet((supplier, ctx) -> ResultIterable.of(supplier, GenericMapMapperFactory.getMapperForValueType(valueType, ctx.getConfig()), ctx));
     }
 
+    /**
+     * Maps one column of this result set to a stream of {@code int} values, without boxing them. The column is
+     * mapped with the column mapper registered for {@code int}, through its
+     * {@link org.jdbi.v3.core.mapper.IntColumnMapper IntColumnMapper} interface if it has one; the built-in mapper
+     * maps SQL {@code NULL} to zero.
+     * <p>
+     * The stream owns database resources, which are released when the stream is exhausted or closed. Close it
+     * with a try-with-resources block unless a terminal operation like {@code toArray()} consumes all rows.
+     *
+     * @param column the column number to map (starts at 1)
+     * @return the stream of column values
+     */
+    @Beta
+    default IntStream mapToInt(int column) {
+        return scanResultSet((supplier, ctx) -> PrimitiveResults.intStream(supplier, column, ctx));
+    }
+
+    /**
+     * Maps one column of this result set to a stream of {@code long} values, without boxing them. The column is
+     * mapped with the column mapper registered for {@code long}, through its
+     * {@link org.jdbi.v3.core.mapper.LongColumnMapper LongColumnMapper} interface if it has one; the built-in mapper
+     * maps SQL {@code NULL} to zero.
+     * <p>
+     * The stream owns database resources, which are released when the stream is exhausted or closed. Close it
+     * with a try-with-resources block unless a terminal operation like {@code toArray()} consumes all rows.
+     *
+     * @param column the column number to map (starts at 1)
+     * @return the stream of column values
+     */
+    @Beta
+    default LongStream mapToLong(int column) {
+        return scanResultSet((supplier, ctx) -> PrimitiveResults.longStream(supplier, column, ctx));
+    }
+
+    /**
+     * Maps one column of this result set to a stream of {@code double} values, without boxing them. The column is
+     * mapped with the column mapper registered for {@code double}, through its
+     * {@link org.jdbi.v3.core.mapper.DoubleColumnMapper DoubleColumnMapper} interface if it has one; the built-in mapper
+     * maps SQL {@code NULL} to zero.
+     * <p>
+     * The stream owns database resources, which are released when the stream is exhausted or closed. Close it
+     * with a try-with-resources block unless a terminal operation like {@code toArray()} consumes all rows.
+     *
+     * @param column the column number to map (starts at 1)
+     * @return the stream of column values
+     */
+    @Beta
+    default DoubleStream mapToDouble(int column) {
+        return scanResultSet((supplier, ctx) -> PrimitiveResults.doubleStream(supplier, column, ctx));
+    }
+
     /**
      * Maps this result set to a {@link ResultIterable}, using the given column mapper.
      *
@@ -362,6 +416,28 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Reads the result set once into column arrays, one for each of the given column types, instead of an object
+     * for each row. Columns of type {@code int}, {@code long} and {@code double} are stored in primitive arrays, as
+     * by {@link #mapToInt(int)} and its siblings; any other column is mapped with the column mapper registered for
+     * its type. Result set columns beyond the given types are ignored.
+     *
+     * @param columnTypes the type of each column to read, starting with the first
+     * @return the columns of the result set
+     */
+    @Beta
+    default ResultColumns collectColumns(Type... columnTypes) {
+        return scanResultSet((supplier, ctx) -> {
+            try (ResultSet rs = supplier.get()) {
+                return ResultColumns.collect(rs, columnTypes, ctx);
+            } catch (SQLException e) {
+                throw new UnableToProduceResultException(e, ctx);
+            } finally {
+                ctx.close();
+            }
+        });
+    }
+
     /**
      * Collect the results into a container of the given type. A collector
      * must be registered for the container type, which knows the element type
@@ -0,0 +1,305 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
+
+import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
+
+/**
+ * The rows of a result set, stored by column: {@code int}, {@code long} and {@code double} columns
+ * in primitive arrays, and any other column in an array of its mapped type. Each column records
+ * which of its rows were SQL {@code NULL}, as reported by {@link ResultSet#wasNull()} after mapping
+ * the column; null primitives are stored as zero. Object columns hold whatever their column mapper
+ * returned, so a mapper may turn SQL {@code NULL} into a value, or a value into {@code null}.
+ * <p>
+ * Columns are numbered from 1, like the result set they were read from, and rows from 0. The
+ * arrays returned by the getters are the ones the columns are stored in, and are not copied.
+ *
+ * @see ResultBearing#collectColumns(Type...)
+ */
+@Beta
+public final class ResultColumns {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Column[] columns;
+    private final int rowCount;
+
+    private ResultColumns(List<Column> columns, int rowCount) {
+        this.columns = columns.toArray(new Column[0]);
+        this.rowCount = rowCount;
+    }
+
+    static ResultColumns collect(ResultSet rs, Type[] columnTypes, StatementContext ctx) throws SQLException {
+        Column[] columns = new Column[columnTypes.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.of(columnTypes[i], ctx);
+        }
+
+        int capacity = INITIAL_CAPACITY;
+        for (Column column : columns) {
+            column.resize(capacity);
+        }
+
+        int row = 0;
+        while (rs.next()) {
+            if (row == capacity) {
+                capacity = capacity * 2;
+                for (Column column : columns) {
+                    column.resize(capacity);
+                }
+            }
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].read(rs, i + 1, row, ctx);
+            }
+            row++;
+        }
+
+        for (Column column : columns) {
+            column.resize(row);
+        }
+        return new ResultColumns(Arrays.asList(columns), row);
+    }
+
+    /**
+     * @return the number of rows read
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of columns read
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @return the values of an {@code int} column
+     * @throws IllegalArgumentException if the column wasn't read as {@code int}
+     */
+    public int[] getInts(int column) {
+        return (int[]) column(column, int.class).values;
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @return the values of a {@code long} column
+     * @throws IllegalArgumentException if the column wasn't read as {@code long}
+     */
+    public long[] getLongs(int column) {
+        return (long[]) column(column, long.class).values;
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @return the values of a {@code double} column
+     * @throws IllegalArgumentException if the column wasn't read as {@code double}
+     */
+    public double[] getDoubles(int column) {
+        return (double[]) column(column, double.class).values;
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @param type the element type of the column, or one of its supertypes
+     * @param <T> the element type
+     * @return the values of a column read as an object type
+     * @throws IllegalArgumentException if the column wasn't read as a subtype of {@code type}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] getObjects(int column, Class<T> type) {
+        return (T[]) column(column, type).values;
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @param row the row number (starts at 0)
+     * @return whether the column was SQL {@code NULL} in the row
+     */
+    public boolean isNull(int column, int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        return column(column).nulls.get(row);
+    }
+
+    /**
+     * @param column the column number (starts at 1)
+     * @return the rows in which the column was SQL {@code NULL}, as a copy
+     */
+    public BitSet getNulls(int column) {
+        return (BitSet) column(column).nulls.clone();
+    }
+
+    private Column column(int column) {
+        if (column < 1 || column > columns.length) {
+            throw new IndexOutOfBoundsException("Column " + column + " of " + columns.length);
+        }
+        return columns[column - 1];
+    }
+
+    private Column column(int column, Class<?> type) {
+        Column c = column(column);
+        if (type.isPrimitive() ? type != c.elementType : !type.isAssignableFrom(c.elementType)) {
+            throw new IllegalArgumentException("Column " + column + " holds " + c.elementType.getName()
+                + " values, not " + type.getName());
+        }
+        return c;
+    }
+
+    private abstract static class Column {
+        final Class<?> elementType;
+        final BitSet nulls = new BitSet();
+        Object values;
+
+        Column(Class<?> elementType) {
+            this.elementType = elementType;
+        }
+
+        static Column of(Type type, StatementContext ctx) {
+            if (type == int.class) {
+                return new IntColumn(PrimitiveResults.intMapper(ctx));
+            }
+            if (type == long.class) {
+                return new LongColumn(PrimitiveResults.longMapper(ctx));
+            }
+            if (type == double.class) {
+                return new DoubleColumn(PrimitiveResults.doubleMapper(ctx));
+            }
+            // other primitives are stored boxed
+            Class<?> elementType = MethodType.methodType(getErasedType(type)).wrap().returnType();
+            return new ObjectColumn(elementType, PrimitiveResults.findMapper(type, ctx));
+        }
+
+        abstract void resize(int capacity);
+
+        abstract void read(ResultSet rs, int column, int row, StatementContext ctx) throws SQLException;
+    }
+
+    private static class IntColumn extends Column {
+        private final IntColumnMapper mapper;
+        private int[] array;
+
+        IntColumn(IntColumnMapper mapper) {
+            super(int.class);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void resize(int capacity) {
+            array = array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+            values = array;
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row, StatementContext ctx) throws SQLException {
+            array[row] = mapper.mapInt(rs, column, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private final LongColumnMapper mapper;
+        private long[] array;
+
+        LongColumn(LongColumnMapper mapper) {
+            super(long.class);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void resize(int capacity) {
+            array = array == null ? new long[capacity] : Arrays.copyOf(array, capacity);
+            values = array;
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row, StatementContext ctx) throws SQLException {
+            array[row] = mapper.mapLong(rs, column, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private final DoubleColumnMapper mapper;
+        private double[] array;
+
+        DoubleColumn(DoubleColumnMapper mapper) {
+            super(double.class);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void resize(int capacity) {
+            array = array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+            values = array;
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row, StatementContext ctx) throws SQLException {
+            array[row] = mapper.mapDouble(rs, column, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+        private final ColumnMapper<?> mapper;
+        private Object[] array;
+
+        ObjectColumn(Class<?> elementType, ColumnMapper<?> mapper) {
+            super(elementType);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void resize(int capacity) {
+            Object[] resized = (Object[]) Array.newInstance(elementType, capacity);
+            if (array != null) {
+                System.arraycopy(array, 0, resized, 0, Math.min(array.length, capacity));
+            }
+            array = resized;
+            values = array;
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row, StatementContext ctx) throws SQLException {
+            array[row] = mapper.map(rs, column, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+    }
+}
@@ -19,10 +19,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -193,9 +195,16 @@ public interface ResultIterable<T> extends Iterable<T> {
      * @param <R>             the generic type of the container
      * @return the container with the query result
      */
+    @SuppressWarnings("unchecked")
     default <R> R collect(Collector<T, ?, R> collector) {
-        try (Stream<T> stream = stream()) {
-            return stream.collect(collector);
+        Collector<T, Object, R> c = (Collector<T, Object, R>) collector;
+        try (ResultIterator<T> iterator = iterator()) {
+            Object container = c.supplier().get();
+            BiConsumer<Object, T> accumulator = c.accumulator();
+            iterator.forEachRemaining(element -> accumulator.accept(container, element));
+            return c.characteristics().contains(Characteristics.IDENTITY_FINISH)
+                ? (R) container
+                : c.finisher().apply(container);
         }
     }
 
@@ -208,12 +217,12 @@ public interface ResultIterable<T> extends Iterable<T> {
      * @param accumulator the function to apply repeatedly
      * @return the final {@code U}
      */
+    @SuppressWarnings("unchecked")
     default <U> U reduce(U identity, BiFunction<U, T, U> accumulator) {
-        try (Stream<T> stream = stream()) {
-            return stream.reduce(identity, accumulator,
-                (u, v) -> {
-                    throw new UnsupportedOperationException("parallel operation not supported");
-                });
+        Object[] result = {identity};
+        try (ResultIterator<T> iterator = iterator()) {
+            iterator.forEachRemaining(element -> result[0] = accumulator.apply((U) result[0], element));
         }
+        return (U) result[0];
     }
 }
@@ -19,7 +19,9 @@ import java.sql.SQLException;
 import java.util.function.Supplier;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.statement.MultipleResults;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Commonly used ResultProducer implementations.
@@ -83,6 +85,18 @@ public class ResultProducers implements JdbiConfig<ResultProducers> {
         };
     }
 
+    /**
+     * Result producer that returns the result sets of a statement that returns several, e.g. a
+     * stored procedure or a script of several queries. Each can be mapped with its own mapper.
+     *
+     * @return the result sets of the statement
+     * @see PreparedStatement#getMoreResults()
+     */
+    @Beta
+    public static ResultProducer<MultipleResults> returningMultipleResults() {
+        return MultipleResults::of;
+    }
+
     /**
      * Result producer that returns a {@link ResultBearing} over the statement-generated keys.
      *
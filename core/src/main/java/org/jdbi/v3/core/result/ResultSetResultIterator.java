@@ -18,18 +18,24 @@ import static java.util.Objects.requireNonNull;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 
+/**
+ * Iterates a result set on a single thread, like the result set itself, so its state is kept
+ * in plain fields. {@link #forEachRemaining(Consumer)} maps the remaining rows in one loop
+ * instead of going through {@link #hasNext()} and {@link #next()} for each row.
+ */
 class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSet results;
     private final RowMapper<T> mapper;
     private final StatementContext context;
 
-    private volatile boolean alreadyAdvanced = false;
-    private volatile boolean hasNext = false;
-    private volatile boolean closed = false;
+    private boolean alreadyAdvanced = false;
+    private boolean hasNext = false;
+    private boolean closed = false;
 
     ResultSetResultIterator(ResultSet results,
                             RowMapper<T> mapper,
@@ -80,9 +86,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         }
 
         try {
-            return mapper.map(results, context);
-        } catch (SQLException e) {
-            throw new ResultSetException("Error thrown mapping result set into return type", e, context);
+            return map();
         } finally {
             alreadyAdvanced = safeNext();
             if (!alreadyAdvanced) {
@@ -91,6 +95,26 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         }
     }
 
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        requireNonNull(action);
+        try {
+            if (!hasNext()) {
+                return;
+            }
+
+            boolean more;
+            do {
+                T item = map();
+                // advance before handing out the row, as next() does
+                more = safeNext();
+                action.accept(item);
+            } while (more);
+        } finally {
+            close();
+        }
+    }
+
     @Override
     public StatementContext getContext() {
         return context;
@@ -101,6 +125,14 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         throw new UnsupportedOperationException("Deleting from a result set iterator is not yet supported");
     }
 
+    private T map() {
+        try {
+            return mapper.map(results, context);
+        } catch (SQLException e) {
+            throw new ResultSetException("Error thrown mapping result set into return type", e, context);
+        }
+    }
+
     private boolean safeNext() {
         try {
             return results.next();
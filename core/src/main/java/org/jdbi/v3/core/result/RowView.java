@@ -15,9 +15,12 @@ package org.jdbi.v3.core.result;
 
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.MappingException;
@@ -30,13 +33,29 @@ import org.jdbi.v3.core.statement.StatementContext;
  * A RowView is an accessor for {@code ResultSet} that uses
  * {@code RowMapper} or {@code ColumnMapper} to extract values.
  * It is not valid outside the scope of the method that receives it.
+ * <p>
+ * A RowView is created once per result set and used by a single thread, so it resolves
+ * column labels to indexes from the result set metadata once, and remembers the mappers
+ * it found for each type. Reducers reading many rows may resolve labels themselves with
+ * {@link #findColumn(String)} and read columns by index.
  */
 public class RowView {
+    private static final int NOT_FOUND = -1;
+
     private final StatementContext ctx;
     private final ResultSet rs;
 
-    private final Map<Type, RowMapper<?>> rowMappers = new ConcurrentHashMap<>();
-    private final Map<Type, ColumnMapper<?>> columnMappers = new ConcurrentHashMap<>();
+    private Type[] rowTypes = new Type[2];
+    private RowMapper<?>[] rowMappers = new RowMapper<?>[2];
+    private int rowMapperCount;
+
+    private Type[] columnTypes = new Type[4];
+    private ColumnMapper<?>[] columnMappers = new ColumnMapper<?>[4];
+    private int columnMapperCount;
+
+    private Map<String, Integer> columnIndexes;
+    private Type[] lastColumnTypes;
+    private ColumnMapper<?>[] lastColumnMappers;
 
     RowView(ResultSet rs, StatementContext ctx) {
         this.rs = rs;
@@ -78,14 +97,22 @@ public class RowView {
     }
 
     private RowMapper<?> rowMapperFor(Type type) throws SQLException {
-        if (rowMappers.containsKey(type)) {
-            return rowMappers.get(type);
+        int i = indexOf(rowTypes, rowMapperCount, type);
+        if (i >= 0) {
+            return rowMappers[i];
         }
 
         RowMapper<?> mapper = ctx.findRowMapperFor(type)
                 .orElseThrow(() -> new NoSuchMapperException("No row mapper registered for " + type))
                 .specialize(rs, ctx);
-        rowMappers.put(type, mapper);
+
+        if (rowMapperCount == rowTypes.length) {
+            rowTypes = Arrays.copyOf(rowTypes, rowMapperCount * 2);
+            rowMappers = Arrays.copyOf(rowMappers, rowMapperCount * 2);
+        }
+        rowTypes[rowMapperCount] = type;
+        rowMappers[rowMapperCount] = mapper;
+        rowMapperCount++;
 
         return mapper;
     }
@@ -143,7 +170,12 @@ public class RowView {
      * @return the materialized object
      */
     public Object getColumn(String column, Type type) {
+        int index = findColumn(column);
+        if (index > 0) {
+            return getColumn(index, type);
+        }
         try {
+            // not a plain column label; let the driver resolve it
             return columnMapperFor(type).map(rs, column, ctx);
         } catch (SQLException e) {
             throw new MappingException(e);
@@ -158,15 +190,100 @@ public class RowView {
      */
     public Object getColumn(int column, Type type) {
         try {
-            return columnMapperFor(type).map(rs, column, ctx);
+            return columnMapperFor(column, type).map(rs, column, ctx);
         } catch (SQLException e) {
             throw new MappingException(e);
         }
     }
 
+    /**
+     * Resolve a column label to its index, matching labels case-insensitively like
+     * {@link ResultSet#findColumn(String)}. Labels are resolved from the result set metadata
+     * once per RowView, so reducers can look up indexes on the first row and then use
+     * {@link #getColumn(int, Class)} and its overloads for every row.
+     *
+     * @param column the column label
+     * @return the 1-based column index, or -1 if no column has that label
+     */
+    public int findColumn(String column) {
+        if (columnIndexes == null) {
+            columnIndexes = resolveColumnIndexes();
+        }
+        Integer index = columnIndexes.get(column);
+        if (index == null) {
+            index = columnIndexes.getOrDefault(column.toLowerCase(Locale.ROOT), NOT_FOUND);
+            columnIndexes.put(column, index);
+        }
+        return index;
+    }
+
+    private Map<String, Integer> resolveColumnIndexes() {
+        try {
+            ResultSetMetaData metadata = rs.getMetaData();
+            int count = metadata.getColumnCount();
+            Map<String, Integer> indexes = new HashMap<>(count * 2);
+            for (int i = 1; i <= count; i++) {
+                String label = metadata.getColumnLabel(i);
+                if (label != null) {
+                    // the first column wins, as with ResultSet.findColumn
+                    indexes.putIfAbsent(label.toLowerCase(Locale.ROOT), i);
+                }
+            }
+            lastColumnTypes = new Type[count + 1];
+            lastColumnMappers = new ColumnMapper<?>[count + 1];
+            return indexes;
+        } catch (SQLException e) {
+            // no metadata; every label goes to the driver
+            return new HashMap<>();
+        }
+    }
+
+    private ColumnMapper<?> columnMapperFor(int column, Type type) {
+        // most reducers read a given column as the same type on every row
+        boolean cacheable = lastColumnTypes != null && column > 0 && column < lastColumnTypes.length;
+        if (cacheable && lastColumnTypes[column] == type) {
+            return lastColumnMappers[column];
+        }
+
+        ColumnMapper<?> mapper = columnMapperFor(type);
+        if (cacheable) {
+            lastColumnTypes[column] = type;
+            lastColumnMappers[column] = mapper;
+        }
+        return mapper;
+    }
+
     private ColumnMapper<?> columnMapperFor(Type type) {
-        return columnMappers.computeIfAbsent(type, t ->
-                ctx.findColumnMapperFor(t)
-                        .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + t)));
+        int i = indexOf(columnTypes, columnMapperCount, type);
+        if (i >= 0) {
+            return columnMappers[i];
+        }
+
+        ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
+                .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + type));
+
+        if (columnMapperCount == columnTypes.length) {
+            columnTypes = Arrays.copyOf(columnTypes, columnMapperCount * 2);
+            columnMappers = Arrays.copyOf(columnMappers, columnMapperCount * 2);
+        }
+        columnTypes[columnMapperCount] = type;
+        columnMappers[columnMapperCount] = mapper;
+        columnMapperCount++;
+
+        return mapper;
+    }
+
+    private static int indexOf(Type[] types, int count, Type type) {
+        for (int i = 0; i < count; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (types[i].equals(type)) {
+                return i;
+            }
+        }
+        return -1;
     }
 }
@@ -15,8 +15,9 @@ package org.jdbi.v3.core.statement;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.List;
+import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.statement.ParsedParameters.NamedBindingPlan;
 
 class ArgumentBinder {
     private ArgumentBinder() {
@@ -24,50 +25,66 @@ class ArgumentBinder {
     }
 
     static void bind(ParsedParameters parameters, Binding binding, PreparedStatement statement, StatementContext context) {
+        bind(parameters, binding, statement, 0, context);
+    }
+
+    /**
+     * Binds the parameters to the statement starting after the first {@code offset} statement
+     * parameters, e.g. to bind several rows of a multi-row insert.
+     */
+    static void bind(ParsedParameters parameters, Binding binding, PreparedStatement statement, int offset, StatementContext context) {
         if (parameters.isPositional()) {
-            bindPositional(parameters, binding, statement, context);
+            bindPositional(parameters, binding, statement, offset, context);
         } else {
-            bindNamed(parameters, binding, statement, context);
+            bindNamed(parameters, binding, statement, offset, context);
         }
     }
 
-    private static void bindPositional(ParsedParameters params, Binding binding, PreparedStatement statement, StatementContext context) {
+    private static void bindPositional(ParsedParameters params, Binding binding, PreparedStatement statement, int offset, StatementContext context) {
         // best effort: just try +1 (unless we expose a method to get the full binding count)
-        boolean moreArgumentsProvidedThanDeclared = binding.findForPosition(params.getParameterCount()).isPresent();
+        boolean moreArgumentsProvidedThanDeclared = binding.findPositional(params.getParameterCount()) != null;
         if (moreArgumentsProvidedThanDeclared && !context.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException("Superfluous positional param at (0 based) position " + params.getParameterCount(), context);
         }
 
         for (int i = 0; i < params.getParameterCount(); i++) {
-            final int index = i;
+            Argument argument = binding.findPositional(i);
+            if (argument == null) {
+                throw new UnableToCreateStatementException("Missing positional param at (0 based) position " + i, context);
+            }
             try {
-                binding.findForPosition(i)
-                    .orElseThrow(() -> new UnableToCreateStatementException("Missing positional param at (0 based) position " + index, context))
-                    .apply(i + 1, statement, context);
+                argument.apply(offset + i + 1, statement, context);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException("Exception while binding positional param at (0 based) position " + i, e, context);
             }
         }
     }
 
-    private static void bindNamed(ParsedParameters params, Binding binding, PreparedStatement statement, StatementContext context) {
-        List<String> paramNames = params.getParameterNames();
+    private static void bindNamed(ParsedParameters params, Binding binding, PreparedStatement statement, int offset, StatementContext context) {
+        NamedBindingPlan plan = params.getNamedBindingPlan();
+        int nameCount = plan.getNameCount();
 
         // best effort: compare empty to non-empty because we can't list the individual binding names (unless we expose a method to do so)
-        boolean argumentsProvidedButNoneDeclared = paramNames.isEmpty() && !binding.isEmpty();
+        boolean argumentsProvidedButNoneDeclared = nameCount == 0 && !binding.isEmpty();
         if (argumentsProvidedButNoneDeclared && !context.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException(String.format("Superfluous named parameters provided while the query declares none: '%s'.", binding), context);
         }
 
-        for (int i = 0; i < paramNames.size(); i++) {
-            final String name = paramNames.get(i);
+        // resolve each distinct name once, even if the statement uses it several times
+        Argument[] arguments = new Argument[nameCount];
+        for (int slot = 0; slot < nameCount; slot++) {
+            arguments[slot] = binding.findNamed(plan.getName(slot), context);
+            if (arguments[slot] == null) {
+                throw new UnableToCreateStatementException(String.format("Missing named parameter '%s'.", plan.getName(slot)), context);
+            }
+        }
 
+        for (int i = 0; i < plan.getParameterCount(); i++) {
+            int slot = plan.getSlot(i);
             try {
-                binding.findForName(name, context)
-                    .orElseThrow(() -> new UnableToCreateStatementException(String.format("Missing named parameter '%s'.", name), context))
-                    .apply(i + 1, statement, context);
+                arguments[slot].apply(offset + i + 1, statement, context);
             } catch (SQLException e) {
-                throw new UnableToCreateStatementException(String.format("Exception while binding named parameter '%s'", name), e, context);
+                throw new UnableToCreateStatementException(String.format("Exception while binding named parameter '%s'", plan.getName(slot)), e, context);
             }
         }
     }
@@ -22,8 +22,6 @@ import java.util.stream.Collectors;
 import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 
-import static org.jdbi.v3.core.internal.JdbiStreams.toStream;
-
 /**
  * Represents the arguments bound to a particular statement.
  */
@@ -67,13 +65,27 @@ public class Binding {
      * @return the bound Argument
      */
     public Optional<Argument> findForName(String name, StatementContext ctx) {
-        if (named.containsKey(name)) {
-            return Optional.of(named.get(name));
+        return Optional.ofNullable(findNamed(name, ctx));
+    }
+
+    /**
+     * Allocation-free variant of {@link #findForName(String, StatementContext)} for the binding hot path.
+     *
+     * @return the bound argument, or null if none
+     */
+    Argument findNamed(String name, StatementContext ctx) {
+        Argument argument = named.get(name);
+        if (argument != null) {
+            return argument;
         }
 
-        return namedArgumentFinder.stream()
-                .flatMap(arguments -> toStream(arguments.find(name, ctx)))
-                .findFirst();
+        for (NamedArgumentFinder finder : namedArgumentFinder) {
+            Optional<Argument> found = finder.find(name, ctx);
+            if (found.isPresent()) {
+                return found.get();
+            }
+        }
+        return null;
     }
 
     /**
@@ -84,7 +96,14 @@ public class Binding {
      * @return argument bound to that position
      */
     public Optional<Argument> findForPosition(int position) {
-        return Optional.ofNullable(positionals.get(position));
+        return Optional.ofNullable(findPositional(position));
+    }
+
+    /**
+     * @return the argument bound at the given (0-based) position, or null if none
+     */
+    Argument findPositional(int position) {
+        return positionals.get(position);
     }
 
     @Override
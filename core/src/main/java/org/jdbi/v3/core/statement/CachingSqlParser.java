@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.cache.CacheStats;
+import org.jdbi.v3.core.internal.JdbiCache;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Base class for SQL parsers which cache their results, keyed by the content of the SQL
+ * string. The cache is bounded and safe for concurrent use, so a single parser instance
+ * can (and should) be shared by every statement of a {@link org.jdbi.v3.core.Jdbi}.
+ */
+@Beta
+public abstract class CachingSqlParser implements SqlParser {
+    /**
+     * The number of distinct SQL strings retained by default.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1_000;
+
+    private final JdbiCache<String, ParsedSql> cache;
+
+    protected CachingSqlParser() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize the maximum number of distinct SQL strings to retain; 0 disables caching.
+     */
+    protected CachingSqlParser(int cacheSize) {
+        this.cache = new JdbiCache<>(cacheSize, this::internalParse);
+    }
+
+    @Override
+    public ParsedSql parse(String sql, StatementContext ctx) {
+        try {
+            return cache.get(sql);
+        } catch (IllegalArgumentException e) {
+            throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
+        }
+    }
+
+    /**
+     * @return statistics of this parser's cache
+     */
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * Parses the given SQL. Called at most once per distinct SQL string while it remains cached.
+     *
+     * @param sql the SQL to parse
+     * @return the parsed SQL
+     * @throws IllegalArgumentException if the SQL cannot be parsed
+     */
+    protected abstract ParsedSql internalParse(String sql);
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jdbi.v3.core.cache.CacheStats;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A statement builder which keeps the prepared statements of a connection open after use, and
+ * hands them out again when the same SQL is prepared with the same generated-key and
+ * concurrency settings. Useful with JDBC drivers which do not pool statements themselves.
+ * <p>
+ * A cached statement is only handed out to one {@link SqlStatement} at a time. When it is
+ * returned, its parameters and batch are cleared and any limits set by statement customizers
+ * (max rows, fetch size, query timeout, ...) are restored. Once more than {@code maxSize}
+ * statements are idle, the least recently used ones are closed. All statements are closed
+ * when the handle is closed.
+ * </p>
+ * <p>
+ * Each {@link org.jdbi.v3.core.Handle} gets its own instance, so the cache statistics are per handle:
+ * </p>
+ * <pre>
+ * jdbi.setStatementBuilderFactory(CachingStatementBuilder.FACTORY);
+ * ...
+ * CacheStats stats = ((CachingStatementBuilder) handle.getStatementBuilder()).getCacheStats();
+ * </pre>
+ * <p>
+ * Callable statements are not cached.
+ * </p>
+ */
+@Beta
+public class CachingStatementBuilder extends DefaultStatementBuilder {
+    /**
+     * The number of idle statements retained per connection by default.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    /**
+     * Creates caching statement builders retaining up to {@link #DEFAULT_CACHE_SIZE} statements.
+     */
+    public static final StatementBuilderFactory FACTORY = factory(DEFAULT_CACHE_SIZE);
+
+    private final int maxSize;
+    private final Map<Key, CachedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Statement, CachedStatement> inUse = new IdentityHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxSize the maximum number of idle statements to retain
+     */
+    public CachingStatementBuilder(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be < 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param maxSize the maximum number of idle statements to retain per connection
+     * @return a factory creating a caching statement builder for each connection
+     */
+    public static StatementBuilderFactory factory(int maxSize) {
+        return conn -> new CachingStatementBuilder(maxSize);
+    }
+
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        Key key = new Key(sql, ctx);
+        CachedStatement cached = idle.remove(key);
+        if (cached == null || cached.stmt.isClosed()) {
+            misses++;
+            cached = new CachedStatement(key, super.create(conn, sql, ctx));
+        } else {
+            hits++;
+        }
+        inUse.put(cached.stmt, cached);
+        return cached.stmt;
+    }
+
+    /**
+     * Returns the statement to the cache, or closes it if it was not created by this builder's cache.
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        CachedStatement cached = stmt == null ? null : inUse.remove(stmt);
+        if (cached == null) {
+            super.close(conn, sql, stmt);
+            return;
+        }
+        if (stmt.isClosed()) {
+            return;
+        }
+
+        try {
+            cached.reset();
+        } catch (SQLException e) {
+            super.close(conn, sql, stmt);
+            throw e;
+        }
+
+        CachedStatement replaced = idle.put(cached.key, cached);
+        if (replaced != null) {
+            replaced.stmt.close();
+        }
+        evictIdle();
+    }
+
+    /**
+     * Closes all statements created by this builder, including ones leaked by unclosed statements or iterators.
+     */
+    @Override
+    public void close(Connection conn) {
+        List<CachedStatement> statements = new ArrayList<>(idle.values());
+        statements.addAll(inUse.values());
+        idle.clear();
+        inUse.clear();
+        for (CachedStatement cached : statements) {
+            try {
+                cached.stmt.close();
+            } catch (SQLException ignored) {
+                // the connection is going away anyway
+            }
+        }
+    }
+
+    /**
+     * @return statistics of this builder's statement cache
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(hits, misses, evictions, idle.size(), maxSize);
+    }
+
+    private void evictIdle() throws SQLException {
+        Iterator<CachedStatement> it = idle.values().iterator();
+        while (idle.size() > maxSize && it.hasNext()) {
+            CachedStatement eldest = it.next();
+            it.remove();
+            evictions++;
+            eldest.stmt.close();
+        }
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final boolean returningGeneratedKeys;
+        private final List<String> generatedKeysColumnNames;
+        private final boolean concurrentUpdatable;
+
+        Key(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            String[] columnNames = ctx.getGeneratedKeysColumnNames();
+            this.generatedKeysColumnNames = columnNames == null ? null : Arrays.asList(columnNames.clone());
+            this.concurrentUpdatable = ctx.isConcurrentUpdatable();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return returningGeneratedKeys == that.returningGeneratedKeys
+                && concurrentUpdatable == that.concurrentUpdatable
+                && Objects.equals(sql, that.sql)
+                && Objects.equals(generatedKeysColumnNames, that.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, returningGeneratedKeys, generatedKeysColumnNames, concurrentUpdatable);
+        }
+    }
+
+    private static final class CachedStatement {
+        private final Key key;
+        private final PreparedStatement stmt;
+        private final int maxRows;
+        private final int maxFieldSize;
+        private final int fetchSize;
+        private final int fetchDirection;
+        private final int queryTimeout;
+
+        CachedStatement(Key key, PreparedStatement stmt) throws SQLException {
+            this.key = key;
+            this.stmt = stmt;
+            this.maxRows = stmt.getMaxRows();
+            this.maxFieldSize = stmt.getMaxFieldSize();
+            this.fetchSize = stmt.getFetchSize();
+            this.fetchDirection = stmt.getFetchDirection();
+            this.queryTimeout = stmt.getQueryTimeout();
+        }
+
+        void reset() throws SQLException {
+            stmt.clearParameters();
+            stmt.clearBatch();
+            stmt.clearWarnings();
+            if (stmt.getMaxRows() != maxRows) {
+                stmt.setMaxRows(maxRows);
+            }
+            if (stmt.getMaxFieldSize() != maxFieldSize) {
+                stmt.setMaxFieldSize(maxFieldSize);
+            }
+            if (stmt.getFetchSize() != fetchSize) {
+                stmt.setFetchSize(fetchSize);
+            }
+            if (stmt.getFetchDirection() != fetchDirection) {
+                stmt.setFetchDirection(fetchDirection);
+            }
+            if (stmt.getQueryTimeout() != queryTimeout) {
+                stmt.setQueryTimeout(queryTimeout);
+            }
+        }
+    }
+}
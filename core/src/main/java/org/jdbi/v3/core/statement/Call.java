@@ -22,6 +22,9 @@ import java.util.List;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.result.ResultProducer;
+import org.jdbi.v3.core.result.ResultProducers;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
 
 /**
  * Used for invoking stored procedures.
@@ -102,6 +105,29 @@ public class Call extends SqlStatement<Call> {
         }
     }
 
+    /**
+     * Invokes the callable statement, returning the result obtained from the given
+     * {@link ResultProducer}, e.g. the result sets returned by a stored procedure. Output
+     * parameters are not read.
+     *
+     * @param <R> the type of the result
+     * @param producer the result producer.
+     * @return value returned by the result producer.
+     * @see ResultProducers#returningMultipleResults()
+     */
+    public <R> R execute(ResultProducer<R> producer) {
+        try {
+            return producer.produce(this::internalExecute, getContext());
+        } catch (SQLException e) {
+            try {
+                close();
+            } catch (Exception e1) {
+                e.addSuppressed(e1);
+            }
+            throw new UnableToProduceResultException(e, getContext());
+        }
+    }
+
     // TODO tostring?
     private class OutParamArgument implements Argument {
         private final int sqlType;
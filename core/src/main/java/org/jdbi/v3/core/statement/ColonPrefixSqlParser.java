@@ -13,9 +13,6 @@
  */
 package org.jdbi.v3.core.statement;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.Token;
 import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
@@ -36,16 +33,14 @@ import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.QUOTED_TEXT;
  * This is the default SQL parser
  * </p>
  */
-public class ColonPrefixSqlParser implements SqlParser {
-    private final Map<String, ParsedSql> cache = Collections.synchronizedMap(new WeakHashMap<>());
+public class ColonPrefixSqlParser extends CachingSqlParser {
+    public ColonPrefixSqlParser() {}
 
-    @Override
-    public ParsedSql parse(String sql, StatementContext ctx) {
-        try {
-            return cache.computeIfAbsent(sql, this::internalParse);
-        } catch (IllegalArgumentException e) {
-            throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
-        }
+    /**
+     * @param cacheSize the maximum number of distinct SQL strings to retain; 0 disables caching.
+     */
+    public ColonPrefixSqlParser(int cacheSize) {
+        super(cacheSize);
     }
 
     @Override
@@ -53,7 +48,8 @@ public class ColonPrefixSqlParser implements SqlParser {
         return ":" + rawName;
     }
 
-    private ParsedSql internalParse(String sql) throws IllegalArgumentException {
+    @Override
+    protected ParsedSql internalParse(String sql) {
         ParsedSql.Builder parsedSql = ParsedSql.builder();
         ColonStatementLexer lexer = new ColonStatementLexer(new ANTLRStringStream(sql));
         Token t = lexer.nextToken();
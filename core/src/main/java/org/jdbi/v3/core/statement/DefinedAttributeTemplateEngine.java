@@ -21,51 +21,149 @@ import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.ESCAPED_TEXT;
 import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.LITERAL;
 import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.QUOTED_TEXT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.Token;
+import org.jdbi.v3.core.cache.CacheStats;
+import org.jdbi.v3.core.internal.JdbiCache;
 import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Template engine which replaces angle-bracketed tokens like
  * <code>&lt;name&gt;</code> with the string value of the named attribute.
  * Attribute names may contain letters (a-z, A-Z), digits (0-9), or underscores
  * (<code>_</code>).
+ * <p>
+ * Each distinct template is lexed once and cached in compiled form, so rendering only
+ * concatenates literal text with attribute values. Templates without any tokens are
+ * returned as-is.
+ * </p>
  */
 public class DefinedAttributeTemplateEngine implements TemplateEngine {
+    /**
+     * The number of distinct templates retained by default.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1_000;
+
+    private final JdbiCache<String, CompiledTemplate> cache;
+
+    public DefinedAttributeTemplateEngine() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize the maximum number of distinct templates to retain in compiled form; 0 disables caching.
+     */
+    @Beta
+    public DefinedAttributeTemplateEngine(int cacheSize) {
+        this.cache = new JdbiCache<>(cacheSize, DefinedAttributeTemplateEngine::compile);
+    }
+
     @Override
     public String render(String template, StatementContext ctx) {
+        try {
+            return cache.get(template).render(ctx);
+        } catch (RuntimeException e) {
+            throw new UnableToCreateStatementException("Error rendering SQL template: '" + template + "'", e, ctx);
+        }
+    }
+
+    /**
+     * @return statistics of this engine's compiled template cache
+     */
+    @Beta
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
+    private static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
         StringBuilder b = new StringBuilder();
         DefineStatementLexer lexer = new DefineStatementLexer(new ANTLRStringStream(template));
-        try {
-            Token t = lexer.nextToken();
-            while (t.getType() != EOF) {
-                switch (t.getType()) {
-                    case COMMENT:
-                    case LITERAL:
-                    case QUOTED_TEXT:
-                    case DOUBLE_QUOTED_TEXT:
-                        b.append(t.getText());
-                        break;
-                    case DEFINE:
-                        String text = t.getText();
-                        String key = text.substring(1, text.length() - 1);
-                        Object value = ctx.getAttribute(key);
-                        if (value == null) {
-                            throw new UnableToCreateStatementException("Undefined attribute for token '" + text + "'", ctx);
-                        }
-                        b.append(value);
-                        break;
-                    case ESCAPED_TEXT:
-                        b.append(t.getText().substring(1));
-                        break;
-                    default:
-                        break;
+        Token t = lexer.nextToken();
+        while (t.getType() != EOF) {
+            switch (t.getType()) {
+                case COMMENT:
+                case LITERAL:
+                case QUOTED_TEXT:
+                case DOUBLE_QUOTED_TEXT:
+                    b.append(t.getText());
+                    break;
+                case DEFINE:
+                    literals.add(b.toString());
+                    tokens.add(t.getText());
+                    b.setLength(0);
+                    break;
+                case ESCAPED_TEXT:
+                    b.append(t.getText().substring(1));
+                    break;
+                default:
+                    break;
+            }
+            t = lexer.nextToken();
+        }
+
+        String tail = b.toString();
+        if (tokens.isEmpty()) {
+            // nothing to substitute: render the same string every time, sharing the template when unchanged
+            return new CompiledTemplate(template.equals(tail) ? template : tail);
+        }
+
+        literals.add(tail);
+        return new CompiledTemplate(literals, tokens);
+    }
+
+    /**
+     * A template split into literal text and <code>&lt;name&gt;</code> tokens: literal[0], token[0], literal[1],
+     * ..., token[n-1], literal[n].
+     */
+    private static final class CompiledTemplate {
+        private final String constant;
+        private final String[] literals;
+        private final String[] tokens;
+        private final String[] keys;
+        private final int literalLength;
+
+        CompiledTemplate(String constant) {
+            this.constant = constant;
+            this.literals = null;
+            this.tokens = null;
+            this.keys = null;
+            this.literalLength = constant.length();
+        }
+
+        CompiledTemplate(List<String> literals, List<String> tokens) {
+            this.constant = null;
+            this.literals = literals.toArray(new String[0]);
+            this.tokens = tokens.toArray(new String[0]);
+            this.keys = new String[this.tokens.length];
+            int length = 0;
+            for (int i = 0; i < keys.length; i++) {
+                String token = this.tokens[i];
+                keys[i] = token.substring(1, token.length() - 1);
+                length += this.literals[i].length();
+            }
+            this.literalLength = length + this.literals[keys.length].length();
+        }
+
+        String render(StatementContext ctx) {
+            if (constant != null) {
+                return constant;
+            }
+
+            StringBuilder b = new StringBuilder(literalLength + 16 * keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                Object value = ctx.getAttribute(keys[i]);
+                if (value == null) {
+                    throw new UnableToCreateStatementException("Undefined attribute for token '" + tokens[i] + "'", ctx);
                 }
-                t = lexer.nextToken();
+                b.append(literals[i]).append(value);
             }
-            return b.toString();
-        } catch (RuntimeException e) {
-            throw new UnableToCreateStatementException("Error rendering SQL template: '" + template + "'", e, ctx);
+            return b.append(literals[keys.length]).toString();
         }
     }
 }
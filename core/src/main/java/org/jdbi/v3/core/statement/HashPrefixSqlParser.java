@@ -22,10 +22,6 @@ import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.NAMED_PARAM;
 import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.POSITIONAL_PARAM;
 import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.QUOTED_TEXT;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
-
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.Token;
 import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
@@ -34,16 +30,14 @@ import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
  * SQL parser which recognizes named parameter tokens of the form
  * <code>#tokenName</code>.
  */
-public class HashPrefixSqlParser implements SqlParser {
-    private final Map<String, ParsedSql> cache = Collections.synchronizedMap(new WeakHashMap<>());
+public class HashPrefixSqlParser extends CachingSqlParser {
+    public HashPrefixSqlParser() {}
 
-    @Override
-    public ParsedSql parse(String sql, StatementContext ctx) {
-        try {
-            return cache.computeIfAbsent(sql, this::internalParse);
-        } catch (IllegalArgumentException e) {
-            throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
-        }
+    /**
+     * @param cacheSize the maximum number of distinct SQL strings to retain; 0 disables caching.
+     */
+    public HashPrefixSqlParser(int cacheSize) {
+        super(cacheSize);
     }
 
     @Override
@@ -51,7 +45,8 @@ public class HashPrefixSqlParser implements SqlParser {
         return "#" + rawName;
     }
 
-    private ParsedSql internalParse(final String sql) {
+    @Override
+    protected ParsedSql internalParse(String sql) {
         ParsedSql.Builder parsedSql = ParsedSql.builder();
         HashStatementLexer lexer = new HashStatementLexer(new ANTLRStringStream(sql));
         Token t = lexer.nextToken();
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a parsed single row {@code INSERT ... VALUES (?, ?)} statement into statements
+ * inserting several rows at once, by repeating its row of values:
+ * {@code INSERT ... VALUES (?, ?), (?, ?)}.
+ * <p>
+ * Only statements whose parameters all appear in a single row of values at the very end of
+ * the statement are rewritten, so the parameters of the {@code n}-th row follow those of the
+ * rows before it.
+ */
+final class MultiRowInsert {
+    private static final Pattern INSERT = Pattern.compile("^\\s*insert\\s", Pattern.CASE_INSENSITIVE);
+    private static final String VALUES = "values";
+
+    private final String prefix;
+    private final String row;
+
+    private MultiRowInsert(String prefix, String row) {
+        this.prefix = prefix;
+        this.row = row;
+    }
+
+    /**
+     * @param parsedSql a parsed statement
+     * @return the rewriter for the statement, or null if it is not a single row insert
+     */
+    static MultiRowInsert of(ParsedSql parsedSql) {
+        String sql = parsedSql.getSql();
+        if (!INSERT.matcher(sql).find()) {
+            return null;
+        }
+
+        int values = findValues(sql);
+        if (values < 0) {
+            return null;
+        }
+
+        int open = skipWhitespace(sql, values + VALUES.length());
+        if (open == sql.length() || sql.charAt(open) != '(') {
+            return null;
+        }
+
+        int close = findClose(sql, open);
+        if (close < 0 || skipWhitespace(sql, close + 1) != sql.length()) {
+            return null;
+        }
+        if (sql.lastIndexOf(ParsedSql.POSITIONAL_PARAM, open) >= 0) {
+            return null;
+        }
+
+        return new MultiRowInsert(sql.substring(0, open), sql.substring(open, close + 1));
+    }
+
+    /**
+     * @param rows the number of rows to insert, at least 1
+     * @return the statement inserting that many rows
+     */
+    String getSql(int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (row.length() + 2));
+        sql.append(prefix).append(row);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", ").append(row);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * @return the index of the only top level {@code VALUES} keyword, or -1 if there is none or
+     * more than one
+     */
+    private static int findValues(String sql) {
+        int found = -1;
+        int depth = 0;
+        int i = 0;
+        while (i < sql.length()) {
+            int next = skipQuoteOrComment(sql, i);
+            if (next != i) {
+                i = next;
+                continue;
+            }
+
+            char c = sql.charAt(i);
+            if (Character.isJavaIdentifierStart(c)) {
+                int end = i + 1;
+                while (end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+                    end++;
+                }
+                boolean isValues = depth == 0 && end - i == VALUES.length()
+                    && sql.regionMatches(true, i, VALUES, 0, VALUES.length());
+                if (isValues && found >= 0) {
+                    return -1;
+                }
+                if (isValues) {
+                    found = i;
+                }
+                i = end;
+                continue;
+            }
+
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+            i++;
+        }
+        return found;
+    }
+
+    /**
+     * @return the index of the parenthesis closing the one at {@code open}, or -1 if it is
+     * never closed
+     */
+    private static int findClose(String sql, int open) {
+        int depth = 0;
+        int i = open;
+        while (i < sql.length()) {
+            int next = skipQuoteOrComment(sql, i);
+            if (next != i) {
+                i = next;
+                continue;
+            }
+
+            char c = sql.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+            if (depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the first character at or after {@code i} that is not whitespace,
+     * or the length of the statement if there is none
+     */
+    private static int skipWhitespace(String sql, int i) {
+        int end = i;
+        while (end < sql.length() && Character.isWhitespace(sql.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * @return the index after the quoted string, quoted identifier or comment starting at
+     * {@code i}, or {@code i} if none starts there
+     */
+    private static int skipQuoteOrComment(String sql, int i) {
+        char c = sql.charAt(i);
+        if (c == '\'' || c == '"' || c == '`') {
+            int end = sql.indexOf(c, i + 1);
+            return end < 0 ? sql.length() : end + 1;
+        }
+        if (sql.startsWith("--", i)) {
+            int end = sql.indexOf('\n', i);
+            return end < 0 ? sql.length() : end + 1;
+        }
+        if (sql.startsWith("/*", i)) {
+            int end = sql.indexOf("*/", i + 2);
+            return end < 0 ? sql.length() : end + 2;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultProducers;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Iterates over the result sets of a statement that returns several, e.g. a stored procedure
+ * or a script of several queries, in a single round trip:
+ *
+ * <pre>
+ * try (MultipleResults results = handle.createQuery("SELECT * FROM a; SELECT * FROM b")
+ *         .execute(ResultProducers.returningMultipleResults())) {
+ *     List&lt;A&gt; as = results.next().mapTo(A.class).list();
+ *     List&lt;B&gt; bs = results.next().mapTo(B.class).list();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Update counts between the result sets are skipped over, and collected in
+ * {@link #getUpdateCounts()}. Each result set can be mapped with its own mapper, but only until
+ * the next one is requested, which closes it. The statement is closed when the last result set
+ * was requested and {@link #hasNext()} returns false, or when this is closed.
+ *
+ * @see ResultProducers#returningMultipleResults()
+ */
+@Beta
+public class MultipleResults implements ResultIterator<ResultBearing> {
+    private final Supplier<PreparedStatement> statementSupplier;
+    private final StatementContext context;
+    private final List<Integer> updateCounts = new ArrayList<>();
+
+    private PreparedStatement statement;
+    private StatementContext current;
+    private int resultNumber = 0;
+    private boolean alreadyAdvanced = false;
+    private boolean hasNext = false;
+    private boolean closed = false;
+
+    private MultipleResults(Supplier<PreparedStatement> statementSupplier, StatementContext context) {
+        this.statementSupplier = statementSupplier;
+        this.context = context;
+    }
+
+    /**
+     * Returns the results of a statement, which is executed when they are first requested.
+     *
+     * @param statementSupplier supplies the executed statement
+     * @param ctx the statement context
+     * @return the results of the statement
+     */
+    public static MultipleResults of(Supplier<PreparedStatement> statementSupplier, StatementContext ctx) {
+        return new MultipleResults(statementSupplier, ctx);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (alreadyAdvanced) {
+            return hasNext;
+        }
+
+        hasNext = advance();
+
+        if (hasNext) {
+            alreadyAdvanced = true;
+        } else {
+            close();
+        }
+
+        return hasNext;
+    }
+
+    /**
+     * Returns the next result set, closing the previous one.
+     *
+     * @return the next result set
+     * @throws NoSuchElementException if the statement returned no more result sets
+     */
+    @Override
+    public ResultBearing next() {
+        if (closed) {
+            throw new IllegalStateException("results are closed");
+        }
+
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more result sets to advance to");
+        }
+
+        alreadyAdvanced = false;
+
+        StatementContext resultContext = new StatementContext(context);
+        current = resultContext;
+        resultNumber++;
+        int number = resultNumber;
+        return ResultBearing.of(() -> getResultSet(number, resultContext), resultContext);
+    }
+
+    /**
+     * @return the update counts skipped over so far, in order
+     */
+    public List<Integer> getUpdateCounts() {
+        return Collections.unmodifiableList(updateCounts);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            closeCurrent();
+        } finally {
+            context.close();
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+
+    private boolean advance() {
+        try {
+            closeCurrent();
+
+            boolean isResultSet;
+            if (statement == null) {
+                statement = statementSupplier.get();
+                // an executed statement has at least one result, which is a result set unless it is an update count
+                isResultSet = statement.getUpdateCount() == -1;
+            } else {
+                isResultSet = statement.getMoreResults();
+            }
+
+            while (!isResultSet) {
+                int updateCount = statement.getUpdateCount();
+                if (updateCount == -1) {
+                    return false;
+                }
+                updateCounts.add(updateCount);
+                isResultSet = statement.getMoreResults();
+            }
+            return true;
+        } catch (SQLException e) {
+            closeAfter(e);
+            throw new ResultSetException("Could not get more results", e, context);
+        } catch (RuntimeException e) {
+            closeAfter(e);
+            throw e;
+        }
+    }
+
+    private void closeAfter(Exception e) {
+        try {
+            close();
+        } catch (RuntimeException e1) {
+            e.addSuppressed(e1);
+        }
+    }
+
+    private ResultSet getResultSet(int number, StatementContext resultContext) {
+        if (current == null || number != resultNumber) {
+            throw new IllegalStateException("Result set was closed by advancing to the next one");
+        }
+        try {
+            ResultSet rs = statement.getResultSet();
+            resultContext.addCleanable(rs::close);
+            return rs;
+        } catch (SQLException e) {
+            throw new ResultSetException("Could not get result set", e, resultContext);
+        }
+    }
+
+    private void closeCurrent() {
+        if (current != null) {
+            StatementContext resultContext = current;
+            current = null;
+            resultContext.close();
+        }
+    }
+}
@@ -17,7 +17,9 @@ import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -26,12 +28,27 @@ import java.util.Objects;
 public class ParsedParameters {
     private final boolean positional;
     private final List<String> parameterNames;
+    private NamedBindingPlan namedBindingPlan;
 
     ParsedParameters(boolean positional, List<String> parameterNames) {
         this.positional = positional;
         this.parameterNames = unmodifiableList(new ArrayList<>(parameterNames));
     }
 
+    /**
+     * @return the plan for binding named parameters, computed once per instance. Since parsers cache
+     * their results, this is typically once per distinct SQL statement.
+     */
+    NamedBindingPlan getNamedBindingPlan() {
+        // benign race: the plan is immutable and computing it twice is harmless
+        NamedBindingPlan plan = namedBindingPlan;
+        if (plan == null) {
+            plan = new NamedBindingPlan(parameterNames);
+            namedBindingPlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * @return true if the SQL statement uses positional parameters, false if
      * the statement uses named parameters, or has no parameters at all.
@@ -111,4 +128,58 @@ public class ParsedParameters {
     public static ParsedParameters positional(int count) {
         return new ParsedParameters(true, Collections.nCopies(count, "?"));
     }
+
+    /**
+     * Named parameters resolved to slots: each distinct name is looked up once per binding,
+     * and each parameter is bound from its name's slot.
+     */
+    static final class NamedBindingPlan {
+        private final String[] names;
+        private final int[] slots;
+
+        NamedBindingPlan(List<String> parameterNames) {
+            Map<String, Integer> slotByName = new LinkedHashMap<>();
+            this.slots = new int[parameterNames.size()];
+            for (int i = 0; i < slots.length; i++) {
+                String name = parameterNames.get(i);
+                Integer slot = slotByName.get(name);
+                if (slot == null) {
+                    slot = slotByName.size();
+                    slotByName.put(name, slot);
+                }
+                slots[i] = slot;
+            }
+            this.names = slotByName.keySet().toArray(new String[0]);
+        }
+
+        /**
+         * @return the number of distinct parameter names, which is the number of slots
+         */
+        int getNameCount() {
+            return names.length;
+        }
+
+        /**
+         * @param slot the slot of a name
+         * @return the parameter name in the slot
+         */
+        String getName(int slot) {
+            return names[slot];
+        }
+
+        /**
+         * @return the number of parameters
+         */
+        int getParameterCount() {
+            return slots.length;
+        }
+
+        /**
+         * @param parameter the (0-based) parameter position
+         * @return the slot of the parameter's name
+         */
+        int getSlot(int parameter) {
+            return slots[parameter];
+        }
+    }
 }
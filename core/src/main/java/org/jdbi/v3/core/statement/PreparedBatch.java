@@ -16,8 +16,10 @@ package org.jdbi.v3.core.statement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -28,6 +30,7 @@ import org.jdbi.v3.core.result.ResultProducer;
 import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -43,10 +46,24 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ *
+ * By default all added bindings are kept until the batch is executed. Use
+ * {@link PreparedBatch#flushEvery(int)} to bind each part to the JDBC statement as it is
+ * added, and execute it whenever enough parts have accumulated, or
+ * {@link PreparedBatch#rewriteValues(int)} to execute a single row insert as multi-row inserts.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
     private final List<Binding> bindings = new ArrayList<>();
 
+    private int flushSize;
+    private int rewriteSize;
+    private PreparedStatement streamingStmt;
+    private Map<String, Object> streamingAttributes;
+    private ParsedParameters parsedParameters;
+    private int pending;
+    private int[] flushedCounts = new int[0];
+    private int flushed;
+
     public PreparedBatch(Handle handle, String sql) {
         super(handle, sql);
     }
@@ -107,6 +124,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      * @return value returned by the result producer.
      */
     public <R> R execute(ResultProducer<R> producer) {
+        if (flushSize > 0) {
+            throw new IllegalStateException("Results of a batch are not available when it is flushed every few parts; "
+                + "use execute() instead");
+        }
+        if (rewriteSize > 0) {
+            throw new IllegalStateException("Results of a batch are not available when it is rewritten to multi-row inserts; "
+                + "use execute() instead");
+        }
         try {
             return producer.produce(() -> internalBatchExecute().stmt, getContext());
         } catch (SQLException e) {
@@ -123,37 +148,19 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         if (!getBinding().isEmpty()) {
             add();
         }
+        if (flushSize > 0) {
+            return finishStreaming();
+        }
         if (bindings.isEmpty()) {
             throw new IllegalStateException("No batch parts to execute");
         }
 
-        String renderedSql = getConfig(SqlStatements.class)
-                .getTemplateEngine()
-                .render(getSql(), getContext());
-        getContext().setRenderedSql(renderedSql);
-
-        ParsedSql parsedSql = getConfig(SqlStatements.class)
-                .getSqlParser()
-                .parse(renderedSql, getContext());
-        String sql = parsedSql.getSql();
-        ParsedParameters parsedParameters = parsedSql.getParameters();
-        getContext().setParsedSql(parsedSql);
-
         try {
-            final PreparedStatement stmt;
-            try {
-                StatementBuilder statementBuilder = getHandle().getStatementBuilder();
-                @SuppressWarnings("PMD.CloseResource")
-                Connection connection = getHandle().getConnection();
-                stmt = statementBuilder.create(connection, sql, getContext());
-
-                addCleanable(() -> statementBuilder.close(connection, sql, stmt));
-                getConfig(SqlStatements.class).customize(stmt);
-            } catch (SQLException e) {
-                throw new UnableToCreateStatementException(e, getContext());
+            if (rewriteSize > 0) {
+                return executeRewritten();
             }
 
-            beforeBinding(stmt);
+            PreparedStatement stmt = createStatement();
 
             try {
                 for (Binding binding : bindings) {
@@ -165,22 +172,224 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
                 throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
             }
 
-            beforeExecution(stmt);
+            int[] updateCounts = executeBatch(stmt);
+            getContext().setBinding(new Binding());
 
-            try {
-                final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig(SqlStatements.class).getSqlLogger());
+            return new ExecutedBatch(stmt, updateCounts);
+        } finally {
+            bindings.clear();
+        }
+    }
 
-                afterExecution(stmt);
+    private ExecutedBatch executeRewritten() {
+        ParsedSql parsedSql = renderAndParseSql();
+        MultiRowInsert insert = MultiRowInsert.of(parsedSql);
+        if (insert == null) {
+            throw new UnableToCreateStatementException("Only statements of the form INSERT ... VALUES (...) "
+                + "can be rewritten to multi-row inserts", getContext());
+        }
+        parsedParameters = parsedSql.getParameters();
 
-                getContext().setBinding(new Binding());
+        // full groups share one statement, the rest is inserted in decreasing powers of two,
+        // so at most 1 + log2(rewriteSize) distinct statements are ever prepared
+        int total = bindings.size();
+        int[] updateCounts = new int[total];
+        PreparedStatement stmt = null;
+        int row = 0;
+        int rows = rewriteSize;
+        while (row < total) {
+            if (rows > total - row) {
+                rows = Integer.highestOneBit(total - row);
+            }
+            int groups = (total - row) / rows;
 
-                return new ExecutedBatch(stmt, rs);
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), getContext());
+            stmt = createStatement(insert.getSql(rows));
+            for (int group = 0; group < groups; group++) {
+                addRows(stmt, row + group * rows, rows);
+            }
+
+            int[] groupCounts = executeBatch(stmt);
+            for (int group = 0; group < groups; group++) {
+                // a row count matching the rows of the group can be attributed to them
+                int count = groupCounts[group];
+                Arrays.fill(updateCounts, row, row + rows,
+                    count == rows ? 1 : count == 0 ? 0 : Statement.SUCCESS_NO_INFO);
+                row += rows;
+            }
+        }
+        getContext().setBinding(new Binding());
+
+        return new ExecutedBatch(stmt, updateCounts);
+    }
+
+    private void addRows(PreparedStatement stmt, int first, int rows) {
+        int parameterCount = parsedParameters.getParameterCount();
+        try {
+            for (int i = 0; i < rows; i++) {
+                Binding binding = bindings.get(first + i);
+                getContext().setBinding(binding);
+                ArgumentBinder.bind(parsedParameters, binding, stmt, i * parameterCount, getContext());
+            }
+            stmt.addBatch();
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+        }
+    }
+
+    private PreparedStatement createStatement() {
+        ParsedSql parsedSql = renderAndParseSql();
+        parsedParameters = parsedSql.getParameters();
+        return createStatement(parsedSql.getSql());
+    }
+
+    private PreparedStatement createStatement(String sql) {
+        final PreparedStatement stmt;
+        try {
+            StatementBuilder statementBuilder = getHandle().getStatementBuilder();
+            @SuppressWarnings("PMD.CloseResource")
+            Connection connection = getHandle().getConnection();
+            stmt = statementBuilder.create(connection, sql, getContext());
+
+            addCleanable(() -> statementBuilder.close(connection, sql, stmt));
+            getConfig(SqlStatements.class).customize(stmt);
+        } catch (SQLException e) {
+            throw new UnableToCreateStatementException(e, getContext());
+        }
+
+        beforeBinding(stmt);
+        return stmt;
+    }
+
+    private int[] executeBatch(PreparedStatement stmt) {
+        beforeExecution(stmt);
+
+        try {
+            final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig(SqlStatements.class).getSqlLogger());
+
+            afterExecution(stmt);
+
+            return rs;
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), getContext());
+        }
+    }
+
+    private void addToStatement(Binding binding) {
+        if (streamingStmt == null) {
+            streamingStmt = createStatement();
+            streamingAttributes = new HashMap<>(getContext().getAttributes());
+        } else if (!streamingAttributes.equals(getContext().getAttributes())) {
+            throw new IllegalStateException("Statement attributes can't be changed once parts were added to a "
+                + "flushing batch, its SQL is rendered when the first part is added");
+        }
+
+        try {
+            getContext().setBinding(binding);
+            ArgumentBinder.bind(parsedParameters, binding, streamingStmt, getContext());
+            streamingStmt.addBatch();
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+        }
+
+        pending++;
+        if (pending >= flushSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        int[] updateCounts = executeBatch(streamingStmt);
+        pending = 0;
+
+        if (flushed + updateCounts.length > flushedCounts.length) {
+            flushedCounts = Arrays.copyOf(flushedCounts,
+                Math.max(flushed + updateCounts.length, flushedCounts.length * 2));
+        }
+        System.arraycopy(updateCounts, 0, flushedCounts, flushed, updateCounts.length);
+        flushed += updateCounts.length;
+    }
+
+    private ExecutedBatch finishStreaming() {
+        if (streamingStmt == null) {
+            throw new IllegalStateException("No batch parts to execute");
+        }
+
+        try {
+            if (pending > 0) {
+                flush();
             }
+            getContext().setBinding(new Binding());
+            return new ExecutedBatch(streamingStmt, Arrays.copyOf(flushedCounts, flushed));
         } finally {
-            bindings.clear();
+            streamingStmt = null;
+            streamingAttributes = null;
+            pending = 0;
+            flushedCounts = new int[0];
+            flushed = 0;
+        }
+    }
+
+    /**
+     * Bind each batch part to the JDBC statement as soon as it is added, instead of keeping
+     * it until the batch is executed, and execute the statement every {@code batchSize}
+     * parts. {@link #execute()} executes the remaining parts and returns the update counts
+     * of all parts, so memory use doesn't grow with the bindings of the whole batch.
+     * <p>
+     * Parts are executed as they accumulate, so results other than update counts, such as
+     * generated keys, are not available: {@link #execute(ResultProducer)} and the
+     * {@link ResultBearing} methods throw an {@link IllegalStateException}. Must be set before
+     * the first part is added.
+     * <p>
+     * The SQL is rendered when the first part is added, so attributes must be defined before
+     * that; defining a different attribute value afterwards fails when the next part is added.
+     *
+     * @param batchSize the number of parts to execute at once
+     * @return this
+     */
+    @Beta
+    public PreparedBatch flushEvery(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, was " + batchSize);
+        }
+        if (!bindings.isEmpty() || streamingStmt != null) {
+            throw new IllegalStateException("flushEvery must be set before parts are added to the batch");
+        }
+        if (rewriteSize > 0) {
+            throw new IllegalStateException("flushEvery can't be combined with rewriteValues");
         }
+        this.flushSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Execute a single row insert of the form {@code INSERT INTO t (a, b) VALUES (:a, :b)} as
+     * multi-row inserts of {@code rowsPerStatement} parts each:
+     * {@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ...}. Most databases insert all rows
+     * of such a statement in a single round trip, even if their driver sends each statement
+     * of a JDBC batch separately.
+     * <p>
+     * Parts that don't fill a whole statement are inserted with statements of decreasing
+     * powers of two rows, so only a few distinct statements are ever prepared. Every parameter
+     * of the statement must be part of its row of values, and {@code rowsPerStatement} times
+     * the number of parameters must not exceed the limit of the database.
+     * <p>
+     * {@link #execute()} returns an update count for each part: 1 or 0 if the count of its
+     * statement applies to all of its rows alike, and {@link Statement#SUCCESS_NO_INFO}
+     * otherwise. Other results, such as generated keys, are not available.
+     *
+     * @param rowsPerStatement the number of parts to insert with one statement
+     * @return this
+     */
+    @Beta
+    public PreparedBatch rewriteValues(int rowsPerStatement) {
+        if (rowsPerStatement < 1) {
+            throw new IllegalArgumentException("Rows per statement must be positive, was " + rowsPerStatement);
+        }
+        if (flushSize > 0) {
+            throw new IllegalStateException("rewriteValues can't be combined with flushEvery");
+        }
+        this.rewriteSize = rowsPerStatement;
+        return this;
     }
 
     /**
@@ -193,7 +402,11 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             throw new IllegalStateException("Attempt to add() a empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (flushSize > 0) {
+            addToStatement(currentBinding);
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new Binding());
         return this;
     }
@@ -226,10 +439,10 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     /**
-     * @return the number of bindings which are in this batch
+     * @return the number of bindings which are in this batch and not yet executed
      */
     public int size() {
-        return bindings.size();
+        return flushSize > 0 ? pending : bindings.size();
     }
 
     private static class ExecutedBatch {
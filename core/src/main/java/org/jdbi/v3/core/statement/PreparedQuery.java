@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A reusable query whose SQL is rendered and parsed once, when it is prepared. Each call to
+ * {@link #createQuery()} returns a new {@link Query} which skips the {@link TemplateEngine} and
+ * {@link SqlParser} on execution. Bind values and execute it as usual.
+ * <p>
+ * The template is rendered with the attributes defined on the handle at the time it is
+ * prepared; attributes defined on the returned statements are not rendered. Combine with
+ * {@link CachingStatementBuilder} to also reuse the JDBC statement across executions.
+ * </p>
+ * <p>
+ * Like its {@link Handle}, a prepared query is not thread safe.
+ * </p>
+ *
+ * @see Handle#prepareQuery(String)
+ */
+@Beta
+public class PreparedQuery {
+    private final Handle handle;
+    private final String sql;
+    private final String renderedSql;
+    private final ParsedSql parsedSql;
+
+    public PreparedQuery(Handle handle, String sql) {
+        this.handle = handle;
+        this.sql = sql;
+        try (Query statement = handle.createQuery(sql)) {
+            this.parsedSql = statement.renderAndParseSql();
+            this.renderedSql = statement.getContext().getRenderedSql();
+        }
+    }
+
+    /**
+     * @return a new query, ready to be bound and executed
+     */
+    public Query createQuery() {
+        return handle.createQuery(sql).usePreparedSql(renderedSql, parsedSql);
+    }
+
+    /**
+     * @return the un-translated SQL this query was prepared from
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the rendered SQL
+     */
+    public String getRenderedSql() {
+        return renderedSql;
+    }
+
+    /**
+     * @return the parsed SQL
+     */
+    public ParsedSql getParsedSql() {
+        return parsedSql;
+    }
+}
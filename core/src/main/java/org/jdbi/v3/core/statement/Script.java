@@ -13,12 +13,16 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.antlr.runtime.ANTLRStringStream;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.internal.SqlScriptParser;
+import org.jdbi.v3.core.result.ResultProducer;
+import org.jdbi.v3.core.result.ResultProducers;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
 
 /**
  * Represents a number of SQL statements which will be executed in a batch statement.
@@ -45,6 +49,29 @@ public class Script extends SqlStatement<Script> {
         return b.execute();
     }
 
+    /**
+     * Execute this script as a single statement, returning the result obtained from the given
+     * {@link ResultProducer}, e.g. the result sets of several queries. The driver must support
+     * several statements in one, and parameters are bound as in any other statement.
+     *
+     * @param <R> the type of the result
+     * @param producer the result producer.
+     * @return value returned by the result producer.
+     * @see ResultProducers#returningMultipleResults()
+     */
+    public <R> R execute(ResultProducer<R> producer) {
+        try {
+            return producer.produce(this::internalExecute, getContext());
+        } catch (SQLException e) {
+            try {
+                close();
+            } catch (Exception e1) {
+                e.addSuppressed(e1);
+            }
+            throw new UnableToProduceResultException(e, getContext());
+        }
+    }
+
     /**
      * Execute this script as a set of separate statements
      */
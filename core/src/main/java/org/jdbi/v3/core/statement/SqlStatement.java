@@ -68,6 +68,12 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      */
     private PreparedStatement stmt;
 
+    /**
+     * Set when created from a {@link PreparedQuery} or {@link PreparedUpdate}: rendering and parsing are skipped
+     */
+    private String preparedRenderedSql;
+    private ParsedSql preparedParsedSql;
+
     SqlStatement(Handle handle,
                  String sql) {
         super(handle);
@@ -1471,7 +1477,26 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         return define(key, value);
     }
 
-    PreparedStatement internalExecute() {
+    /**
+     * Use SQL which was already rendered and parsed, instead of rendering and parsing it on execution.
+     */
+    This usePreparedSql(String renderedSql, ParsedSql parsedSql) {
+        this.preparedRenderedSql = renderedSql;
+        this.preparedParsedSql = parsedSql;
+        return typedThis;
+    }
+
+    /**
+     * Renders the SQL template and parses the result, or uses the prepared SQL if this statement has any.
+     * The rendered and parsed SQL are recorded on the statement context.
+     */
+    ParsedSql renderAndParseSql() {
+        if (preparedParsedSql != null) {
+            getContext().setRenderedSql(preparedRenderedSql);
+            getContext().setParsedSql(preparedParsedSql);
+            return preparedParsedSql;
+        }
+
         String renderedSql = getConfig(SqlStatements.class)
                 .getTemplateEngine()
                 .render(sql, getContext());
@@ -1480,8 +1505,13 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         ParsedSql parsedSql = getConfig(SqlStatements.class)
                 .getSqlParser()
                 .parse(renderedSql, getContext());
-        String sql = parsedSql.getSql();
         getContext().setParsedSql(parsedSql);
+        return parsedSql;
+    }
+
+    PreparedStatement internalExecute() {
+        ParsedSql parsedSql = renderAndParseSql();
+        String sql = parsedSql.getSql();
 
         try {
             if (getClass().isAssignableFrom(Call.class)) {
@@ -1492,7 +1522,8 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
             // The statement builder might (or might not) clean up the statement when called. E.g. the
             // caching statement builder relies on the statement *not* being closed.
-            addCleanable(() -> handle.getStatementBuilder().close(handle.getConnection(), this.sql, stmt));
+            PreparedStatement createdStmt = stmt;
+            addCleanable(() -> handle.getStatementBuilder().close(handle.getConnection(), sql, createdStmt));
             getConfig(SqlStatements.class).customize(stmt);
         } catch (SQLException e) {
             throw new UnableToCreateStatementException(e, getContext());
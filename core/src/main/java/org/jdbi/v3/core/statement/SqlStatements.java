@@ -24,6 +24,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nullable;
 
+import org.jdbi.v3.core.cache.CacheStats;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.meta.Beta;
 
@@ -32,13 +33,15 @@ import org.jdbi.v3.meta.Beta;
  */
 public final class SqlStatements implements JdbiConfig<SqlStatements> {
 
-    private final Map<String, Object> attributes;
+    // shared with the copies of this config, and copied before either side defines an attribute
+    private volatile Map<String, Object> attributes;
+    private boolean attributesShared;
     private TemplateEngine templateEngine;
     private SqlParser sqlParser;
     private SqlLogger sqlLogger;
     private Integer queryTimeout;
     private boolean allowUnusedBindings;
-    private final Collection<StatementCustomizer> customizers = new CopyOnWriteArrayList<>();
+    private final Collection<StatementCustomizer> customizers;
 
     public SqlStatements() {
         attributes = Collections.synchronizedMap(new HashMap<>());
@@ -46,16 +49,21 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         sqlParser = new ColonPrefixSqlParser();
         sqlLogger = SqlLogger.NOP_SQL_LOGGER;
         queryTimeout = null;
+        customizers = new CopyOnWriteArrayList<>();
     }
 
     private SqlStatements(SqlStatements that) {
-        this.attributes = Collections.synchronizedMap(that.getAttributes()); // already copied
+        synchronized (that) {
+            that.attributesShared = true;
+            this.attributes = that.attributes;
+            this.attributesShared = true;
+        }
         this.templateEngine = that.templateEngine;
         this.sqlParser = that.sqlParser;
         this.sqlLogger = that.sqlLogger;
         this.queryTimeout = that.queryTimeout;
         this.allowUnusedBindings = that.allowUnusedBindings;
-        this.customizers.addAll(that.customizers);
+        this.customizers = new CopyOnWriteArrayList<>(that.customizers);
     }
 
     /**
@@ -66,7 +74,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
      * @return this
      */
     public SqlStatements define(String key, Object value) {
-        attributes.put(key, value);
+        writableAttributes().put(key, value);
         return this;
     }
 
@@ -78,11 +86,21 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
      */
     public SqlStatements defineMap(final Map<String, ?> values) {
         if (values != null) {
-            attributes.putAll(values);
+            writableAttributes().putAll(values);
         }
         return this;
     }
 
+    private Map<String, Object> writableAttributes() {
+        synchronized (this) {
+            if (attributesShared) {
+                attributes = Collections.synchronizedMap(new HashMap<>(attributes));
+                attributesShared = false;
+            }
+            return attributes;
+        }
+    }
+
     /**
      * Obtain the value of an attribute
      *
@@ -137,6 +155,19 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    /**
+     * Returns the statistics of the compiled template cache of the configured {@link TemplateEngine}.
+     *
+     * @return the template cache statistics, or {@link CacheStats#EMPTY} if the configured engine does not cache
+     * @see DefinedAttributeTemplateEngine
+     */
+    @Beta
+    public CacheStats getTemplateEngineCacheStats() {
+        return templateEngine instanceof DefinedAttributeTemplateEngine
+            ? ((DefinedAttributeTemplateEngine) templateEngine).getCacheStats()
+            : CacheStats.EMPTY;
+    }
+
     public SqlParser getSqlParser() {
         return sqlParser;
     }
@@ -154,6 +185,21 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    /**
+     * Returns the statistics of the parse cache of the configured {@link SqlParser}. The built-in parsers
+     * cache parsed SQL keyed by the SQL text, and share their cache between every statement using the same
+     * parser instance.
+     *
+     * @return the parse cache statistics, or {@link CacheStats#EMPTY} if the configured parser does not cache
+     * @see CachingSqlParser
+     */
+    @Beta
+    public CacheStats getSqlParserCacheStats() {
+        return sqlParser instanceof CachingSqlParser
+            ? ((CachingSqlParser) sqlParser).getCacheStats()
+            : CacheStats.EMPTY;
+    }
+
     /**
      * @return the timing collector
      *
@@ -95,6 +95,26 @@ public class StatementContext implements Closeable {
         this.extensionMethod = extensionMethod;
     }
 
+    /**
+     * Creates a context sharing the configuration, statement and binding of another, which only
+     * cleans up the resources added to itself.
+     */
+    StatementContext(StatementContext parent) {
+        this(parent.config, parent.extensionMethod);
+        this.rawSql = parent.rawSql;
+        this.renderedSql = parent.renderedSql;
+        this.parsedSql = parent.parsedSql;
+        this.statement = parent.statement;
+        this.connection = parent.connection;
+        this.binding = parent.binding;
+        this.returningGeneratedKeys = parent.returningGeneratedKeys;
+        this.generatedKeysColumnNames = parent.generatedKeysColumnNames;
+        this.concurrentUpdatable = parent.concurrentUpdatable;
+        this.executionMoment = parent.executionMoment;
+        this.completionMoment = parent.completionMoment;
+        this.exceptionMoment = parent.exceptionMoment;
+    }
+
     /**
      * Gets the configuration object of the given type, associated with this context.
      *
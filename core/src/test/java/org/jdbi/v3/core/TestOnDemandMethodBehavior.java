@@ -56,6 +56,10 @@ public class TestOnDemandMethodBehavior {
             runnable.run();
         }
 
+        default int add(int a, int b) {
+            return a + b;
+        }
+
         default void blowUp() throws SQLException {
             throw new SQLException("boom");
         }
@@ -133,4 +137,12 @@ public class TestOnDemandMethodBehavior {
         UselessDao uselessDao = db.onDemand(UselessDao.class);
         assertThatThrownBy(uselessDao::blowUp).isInstanceOf(SQLException.class);
     }
+
+    @Test
+    public void testArgumentsAndReturnValuesPassThrough() {
+        db.registerExtension(new UselessDaoExtension());
+        UselessDao uselessDao = db.onDemand(UselessDao.class);
+        assertThat(uselessDao.add(1, 2)).isEqualTo(3);
+        assertThat(uselessDao.add(3, 4)).isEqualTo(7);
+    }
 }
@@ -20,7 +20,10 @@ import static org.mockito.Mockito.verify;
 import java.lang.reflect.Type;
 import java.sql.PreparedStatement;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 
+import org.jdbi.v3.core.array.SqlArrayTypes;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleAccess;
@@ -110,8 +113,131 @@ public class TestArgumentsRegistry {
                 .hasValueSatisfying(a -> assertThat(a).isInstanceOf(NullArgument.class));
     }
 
+    @Test
+    public void testPreparableFactoryIsAskedOncePerType() {
+        CountingPreparableFactory factory = new CountingPreparableFactory();
+        handle.registerArgument(factory);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(ctx.findArgumentFor(Weird.class, new Weird()))
+                    .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        }
+        assertThat(ctx.findArgumentFor(String.class, I_AM_A_STRING))
+                .hasValueSatisfying(a -> assertThat(a).isNotInstanceOf(WeirdArgument.class));
+
+        assertThat(factory.prepared.get()).isEqualTo(2);
+        assertThat(factory.built.get()).isZero();
+    }
+
+    @Test
+    public void testValueInspectingFactoryPrecedesPreparedFactory() {
+        handle.registerArgument(new CountingPreparableFactory());
+        Argument special = (position, statement, context) -> {};
+        Weird specialValue = new Weird();
+        handle.registerArgument((ArgumentFactory) (type, value, config) ->
+                value == specialValue ? Optional.of(special) : Optional.empty());
+
+        assertThat(ctx.findArgumentFor(Weird.class, specialValue)).contains(special);
+        assertThat(ctx.findArgumentFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+    }
+
+    @Test
+    public void testRegisterDiscardsPreparedTypes() {
+        handle.registerArgument(new CountingPreparableFactory());
+        assertThat(ctx.findArgumentFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+
+        handle.registerArgument(new WeirdClassArgumentFactory() {
+            @Override
+            public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
+                return super.build(expectedType, value, config).map(a -> new NullArgument(0));
+            }
+        });
+        assertThat(ctx.findArgumentFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(NullArgument.class));
+    }
+
+    @Test
+    public void testCopiesSharePreparedTypes() {
+        CountingPreparableFactory factory = new CountingPreparableFactory();
+        ConfigRegistry parent = new ConfigRegistry();
+        parent.get(Arguments.class).register(factory);
+
+        ConfigRegistry firstStatement = parent.createCopy();
+        ConfigRegistry secondStatement = parent.createCopy();
+        assertThat(firstStatement.get(Arguments.class).findFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(secondStatement.get(Arguments.class).findFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(parent.get(Arguments.class).findFor(Weird.class, new Weird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(factory.prepared.get()).isEqualTo(1);
+
+        secondStatement.get(Arguments.class).register(new WeirdValueArgumentFactory());
+        secondStatement.get(Arguments.class).findFor(Weird.class, new Weird());
+        parent.get(Arguments.class).findFor(Weird.class, new Weird());
+        assertThat(factory.prepared.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPreparedArgumentIsBuiltWithCurrentConfig() {
+        ConfigRegistry parent = new ConfigRegistry();
+        parent.get(Arguments.class).register(new AbstractArgumentFactory<Weird>(0) {
+            @Override
+            protected Argument build(Weird value, ConfigRegistry config) {
+                return config.get(Arguments.class).getUntypedNullArgument();
+            }
+        });
+        parent.get(Arguments.class).findFor(Weird.class, new Weird());
+
+        ConfigRegistry child = parent.createCopy();
+        Argument childNull = new NullArgument(0);
+        child.get(Arguments.class).setUntypedNullArgument(childNull);
+        assertThat(child.get(Arguments.class).findFor(Weird.class, new Weird())).contains(childNull);
+    }
+
+    @Test
+    public void testArrayTypeIsFoundInCurrentConfig() {
+        ConfigRegistry config = new ConfigRegistry();
+        String[] array = {"a"};
+        config.get(SqlArrayTypes.class).register(String.class, "varchar");
+        assertThat(config.get(Arguments.class).findFor(String[].class, array))
+                .hasValueSatisfying(a -> assertThat(a.toString()).startsWith("varchar[]"));
+
+        ConfigRegistry copy = config.createCopy();
+        copy.get(SqlArrayTypes.class).register(String.class, "text");
+        assertThat(copy.get(Arguments.class).findFor(String[].class, array))
+                .hasValueSatisfying(a -> assertThat(a.toString()).startsWith("text[]"));
+        assertThat(config.get(Arguments.class).findFor(String[].class, array))
+                .hasValueSatisfying(a -> assertThat(a.toString()).startsWith("varchar[]"));
+
+        config.get(SqlArrayTypes.class).register(String.class, "char");
+        assertThat(config.get(Arguments.class).findFor(String[].class, array))
+                .hasValueSatisfying(a -> assertThat(a.toString()).startsWith("char[]"));
+    }
+
     private static class Weird {}
 
+    private static class CountingPreparableFactory implements ArgumentFactory.Preparable {
+        private final AtomicInteger prepared = new AtomicInteger();
+        private final AtomicInteger built = new AtomicInteger();
+
+        @Override
+        public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
+            built.incrementAndGet();
+            return prepare(expectedType, config).map(f -> f.apply(value, config));
+        }
+
+        @Override
+        public Optional<BiFunction<Object, ConfigRegistry, Argument>> prepare(Type expectedType, ConfigRegistry config) {
+            prepared.incrementAndGet();
+            return getErasedType(expectedType) == Weird.class
+                    ? Optional.of((value, valueConfig) -> new WeirdArgument())
+                    : Optional.empty();
+        }
+    }
+
     private static class WeirdClassArgumentFactory implements ArgumentFactory {
         @Override
         public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
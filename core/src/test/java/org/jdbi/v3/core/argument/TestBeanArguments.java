@@ -86,6 +86,19 @@ public class TestBeanArguments {
         }
     }
 
+    @Test
+    public void testBindNonPublicBean() throws Exception {
+        new BeanPropertyArguments("", new NonPublicBean()).find("id", ctx).get().apply(4, stmt, null);
+
+        verify(stmt).setLong(4, 42);
+    }
+
+    static class NonPublicBean {
+        public long getId() {
+            return 42;
+        }
+    }
+
     @Test
     public void testBindIllegalAccess() {
         assertThatThrownBy(() -> new BeanPropertyArguments("foo", new ThrowsIllegalAccessException()).find("foo.bar", ctx))
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConfigRegistry {
+    private static final AtomicInteger COPIES = new AtomicInteger();
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private final ConfigRegistry root = new ConfigRegistry();
+
+    @Before
+    public void resetCopies() {
+        COPIES.set(0);
+    }
+
+    @Test
+    public void testGetReturnsSameInstance() {
+        assertThat(root.get(TestConfig.class)).isSameAs(root.get(TestConfig.class));
+        assertThat(root.get(TestConfig.class).registry).isSameAs(root);
+    }
+
+    @Test
+    public void testCopyKeepsOriginalInstances() {
+        TestConfig original = root.get(TestConfig.class);
+        original.value = "root";
+
+        ConfigRegistry copy = root.createCopy();
+        assertThat(COPIES).hasValue(1);
+        assertThat(root.get(TestConfig.class)).isSameAs(original);
+        assertThat(original.registry).isSameAs(root);
+
+        TestConfig copied = copy.get(TestConfig.class);
+        assertThat(copied).isNotSameAs(original);
+        assertThat(copied.value).isEqualTo("root");
+        assertThat(copied.registry).isSameAs(copy);
+    }
+
+    @Test
+    public void testChangesToOriginalDoNotAffectCopy() {
+        TestConfig original = root.get(TestConfig.class);
+        original.value = "root";
+
+        ConfigRegistry copy = root.createCopy();
+        original.value = "changed";
+
+        assertThat(copy.get(TestConfig.class).value).isEqualTo("root");
+        assertThat(root.get(TestConfig.class).value).isEqualTo("changed");
+        assertThat(root.createCopy().get(TestConfig.class).value).isEqualTo("changed");
+    }
+
+    @Test
+    public void testChangesToCopyDoNotAffectOriginal() {
+        root.get(TestConfig.class).value = "root";
+
+        ConfigRegistry copy = root.createCopy();
+        copy.get(TestConfig.class).value = "copy";
+
+        assertThat(root.get(TestConfig.class).value).isEqualTo("root");
+        assertThat(copy.createCopy().get(TestConfig.class).value).isEqualTo("copy");
+    }
+
+    @Test
+    public void testConfigsMissingFromOriginalAreCreatedInCopy() {
+        ConfigRegistry copy = root.createCopy();
+
+        TestConfig created = copy.get(TestConfig.class);
+        assertThat(created.value).isNull();
+        assertThat(created.registry).isSameAs(copy);
+        assertThat(COPIES).hasValue(0);
+    }
+
+    @Test
+    public void testCopiedConfigsSeeEachOtherInCopy() {
+        root.get(DependentConfig.class);
+        root.get(TestConfig.class).value = "root";
+
+        ConfigRegistry copy = root.createCopy();
+        DependentConfig dependent = copy.get(DependentConfig.class);
+        assertThat(dependent.dependency).isSameAs(copy.get(TestConfig.class));
+        assertThat(dependent.dependency.value).isEqualTo("root");
+    }
+
+    @Test
+    public void testConfigObtainedBeforeOpeningHandleDoesNotChangeHandle() {
+        Jdbi jdbi = dbRule.getJdbi();
+        SqlStatements statements = jdbi.getConfig(SqlStatements.class);
+
+        try (Handle handle = jdbi.open()) {
+            statements.define("x", "1");
+
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("x")).isNull();
+            assertThat(jdbi.getConfig(SqlStatements.class).getAttribute("x")).isEqualTo("1");
+        }
+    }
+
+    @Test
+    public void testConfigObtainedBeforeOpeningHandleStillChangesJdbi() {
+        Jdbi jdbi = dbRule.getJdbi();
+        SqlStatements statements = jdbi.getConfig(SqlStatements.class);
+
+        try (Handle handle = jdbi.open()) {
+            handle.define("x", "1");
+            jdbi.getConfig(SqlStatements.class);
+            statements.define("y", "2");
+
+            assertThat(jdbi.getConfig(SqlStatements.class).getAttribute("y")).isEqualTo("2");
+            assertThat(jdbi.getConfig(SqlStatements.class).getAttribute("x")).isNull();
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("y")).isNull();
+        }
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("y")).isEqualTo("2");
+        }
+    }
+
+    public static class TestConfig implements JdbiConfig<TestConfig> {
+        private ConfigRegistry registry;
+        private String value;
+
+        public TestConfig() {}
+
+        private TestConfig(TestConfig that) {
+            COPIES.incrementAndGet();
+            this.value = that.value;
+        }
+
+        @Override
+        public void setRegistry(ConfigRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public TestConfig createCopy() {
+            return new TestConfig(this);
+        }
+    }
+
+    public static class DependentConfig implements JdbiConfig<DependentConfig> {
+        private TestConfig dependency;
+
+        public DependentConfig() {}
+
+        @Override
+        public void setRegistry(ConfigRegistry registry) {
+            this.dependency = registry.get(TestConfig.class);
+        }
+
+        @Override
+        public DependentConfig createCopy() {
+            return new DependentConfig();
+        }
+    }
+}
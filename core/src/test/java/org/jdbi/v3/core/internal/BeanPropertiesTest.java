@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanPropertiesTest {
+    @Test
+    public void testIntrospectsOncePerClass() throws Exception {
+        BeanProperties properties = BeanProperties.of(Bean.class);
+
+        assertThat(BeanProperties.of(Bean.class)).isSameAs(properties);
+        assertThat(BeanProperties.of(Bean.class).get("count")).isSameAs(properties.get("count"));
+    }
+
+    @Test
+    public void testReadWrite() throws Exception {
+        BeanProperties.Property count = BeanProperties.of(Bean.class).get("count");
+        Bean bean = new Bean();
+
+        count.write(bean, 3);
+        assertThat(count.read(bean)).isEqualTo(3);
+        assertThat(count.isReadable()).isTrue();
+        assertThat(count.isWritable()).isTrue();
+        assertThat(BeanProperties.of(Bean.class).get("class").isWritable()).isFalse();
+    }
+
+    @Test
+    public void testAccepts() throws Exception {
+        BeanProperties properties = BeanProperties.of(Bean.class);
+
+        assertThat(properties.get("count").accepts(1)).isTrue();
+        assertThat(properties.get("count").accepts(null)).isFalse();
+        assertThat(properties.get("count").accepts("1")).isFalse();
+        assertThat(properties.get("name").accepts(null)).isTrue();
+        assertThat(properties.get("name").accepts("name")).isTrue();
+        assertThat(properties.get("class").accepts(Bean.class)).isFalse();
+    }
+
+    public static class Bean {
+        private int count;
+        private String name;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
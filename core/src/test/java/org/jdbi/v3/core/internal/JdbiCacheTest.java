@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jdbi.v3.core.cache.CacheStats;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbiCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(Integer key) {
+        loads.incrementAndGet();
+        return "value" + key;
+    }
+
+    @Test
+    public void testLoadsOnce() {
+        JdbiCache<Integer, String> cache = new JdbiCache<>(10, this::load);
+
+        assertThat(cache.get(1)).isEqualTo("value1");
+        assertThat(cache.get(1)).isEqualTo("value1");
+        assertThat(loads).hasValue(1);
+
+        CacheStats stats = cache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testRecentlyUsedEntriesSurviveEviction() {
+        JdbiCache<Integer, String> cache = new JdbiCache<>(2, this::load);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(1);
+
+        cache.get(1);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() {
+        JdbiCache<Integer, String> cache = new JdbiCache<>(0, this::load);
+        cache.get(1);
+        cache.get(1);
+
+        assertThat(cache.size()).isZero();
+        assertThat(loads).hasValue(2);
+    }
+}
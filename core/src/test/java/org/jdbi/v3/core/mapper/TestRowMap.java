@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TestRowMap {
+    private final RowMap.Columns columns = new RowMap.Columns(Arrays.asList("id", "name", "score"));
+
+    private Map<String, Object> row(Object... values) {
+        RowMap<Object> row = new RowMap<>(columns);
+        for (int i = 0; i < values.length; i++) {
+            row.setValue(i, values[i]);
+        }
+        return row;
+    }
+
+    @Test
+    public void testBehavesLikeLinkedHashMap() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("name", "alice");
+        expected.put("score", null);
+
+        Map<String, Object> row = row(1, "alice", null);
+
+        assertThat(row).isEqualTo(expected);
+        assertThat(row.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(row.toString()).isEqualTo(expected.toString());
+        assertThat(row.keySet()).containsExactly("id", "name", "score");
+        assertThat(row.containsKey("score")).isTrue();
+        assertThat(row.containsKey("missing")).isFalse();
+        assertThat(row.get("missing")).isNull();
+    }
+
+    @Test
+    public void testReplaceValue() {
+        Map<String, Object> row = row(1, "alice", 3);
+
+        assertThat(row.put("name", "bob")).isEqualTo("alice");
+        row.entrySet().iterator().next().setValue(2);
+
+        assertThat(row).containsExactly(entry("id", 2), entry("name", "bob"), entry("score", 3));
+    }
+
+    @Test
+    public void testStructuralChanges() {
+        Map<String, Object> row = row(1, "alice", 3);
+
+        row.put("extra", true);
+        row.remove("id");
+
+        assertThat(row).containsExactly(entry("name", "alice"), entry("score", 3), entry("extra", true));
+    }
+
+    @Test
+    public void testRemoveThroughIterator() {
+        Map<String, Object> row = row(1, "alice", 3);
+
+        Iterator<String> keys = row.keySet().iterator();
+        keys.next();
+        keys.next();
+        keys.remove();
+
+        assertThat(row).containsExactly(entry("id", 1), entry("score", 3));
+    }
+
+    @Test
+    public void testRowsShareColumns() {
+        Map<String, Object> first = row(1, "alice", 3);
+        Map<String, Object> second = row(2, "bob", 4);
+
+        first.put("name", "carol");
+
+        assertThat(second.get("name")).isEqualTo("bob");
+    }
+
+    @Test
+    public void testSerializesAsLinkedHashMap() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(row(1, "alice", 3));
+        }
+
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertThat(copy).isInstanceOf(LinkedHashMap.class).isEqualTo(row(1, "alice", 3));
+    }
+}
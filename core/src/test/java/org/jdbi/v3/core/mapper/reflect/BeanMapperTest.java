@@ -264,6 +264,65 @@ public class BeanMapperTest {
         assertThatThrownBy(() -> mapper.map(resultSet, ctx)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void shouldReuseSpecializationForSameColumns() throws Exception {
+        mockColumns("longField");
+        mockLongResult(100L);
+
+        assertThat(mapper.map(resultSet, ctx).getLongField()).isEqualTo(100L);
+        assertThat(BeanMapper.of(SampleBean.class).map(resultSet, ctx).getLongField()).isEqualTo(100L);
+
+        assertThat(ctx.getConfig(ReflectionMappers.class).getSpecializationCacheStats())
+            .extracting("hitCount", "missCount", "size")
+            .containsExactly(1L, 1L, 1);
+    }
+
+    @Test
+    public void shouldNotShareSpecializationBetweenPrefixesOrConfigurations() throws Exception {
+        mockColumns("longField", "foo_longField");
+        mockLongResult(100L);
+        when(resultSet.getLong(2)).thenReturn(200L);
+
+        assertThat(mapper.map(resultSet, ctx).getLongField()).isEqualTo(100L);
+        assertThat(BeanMapper.of(SampleBean.class, "foo_").map(resultSet, ctx).getLongField()).isEqualTo(200L);
+        assertThat(ctx.getConfig(ReflectionMappers.class).getSpecializationCacheStats().getMissCount()).isEqualTo(2L);
+
+        StatementContext other = StatementContextAccess.createContext(HandleAccess.createHandle());
+        assertThat(mapper.map(resultSet, other).getLongField()).isEqualTo(100L);
+        assertThat(other.getConfig(ReflectionMappers.class).getSpecializationCacheStats().getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldRespecializeWhenStrictMatchingChanges() throws Exception {
+        mockColumns("longField", "misspelledField");
+        mockLongResult(100L);
+        assertThat(mapper.map(resultSet, ctx).getLongField()).isEqualTo(100L);
+
+        ctx.getConfig(ReflectionMappers.class).setStrictMatching(true);
+        assertThatThrownBy(() -> mapper.map(resultSet, ctx)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldWrapExceptionThrownBySetter() throws Exception {
+        mockColumns("value");
+        when(resultSet.getString(1)).thenReturn("boom");
+
+        assertThatThrownBy(() -> BeanMapper.of(ThrowingSetterBean.class).map(resultSet, ctx))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("value property")
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    public static class ThrowingSetterBean {
+        public String getValue() {
+            return null;
+        }
+
+        public void setValue(String value) {
+            throw new IllegalStateException(value);
+        }
+    }
+
     static class ColumnNameBean {
         int i;
         String s;
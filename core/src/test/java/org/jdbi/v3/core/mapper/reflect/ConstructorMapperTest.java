@@ -351,4 +351,41 @@ public class ConstructorMapperTest {
             return new MultipleStaticFactoryMethodsBean();
         }
     }
+
+    @Test
+    public void testManyParameters() {
+        ManyParametersBean bean = dbRule.getSharedHandle()
+            .createQuery("SELECT 1 a, 2 b, 3 c, 4 d, 5 e, 6 f, s FROM bean")
+            .map(ConstructorMapper.of(ManyParametersBean.class))
+            .findOnly();
+
+        assertThat(bean.sum).isEqualTo(21);
+        assertThat(bean.s).isEqualTo("3");
+    }
+
+    static class ManyParametersBean {
+        private final int sum;
+        private final String s;
+
+        ManyParametersBean(int a, int b, int c, int d, int e, int f, String s) {
+            this.sum = a + b + c + d + e + f;
+            this.s = s;
+        }
+    }
+
+    @Test
+    public void testConstructorExceptionPropagates() {
+        assertThatThrownBy(() -> dbRule.getSharedHandle()
+            .createQuery("SELECT s FROM bean")
+            .map(ConstructorMapper.of(ThrowingBean.class))
+            .findOnly())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("3");
+    }
+
+    static class ThrowingBean {
+        ThrowingBean(String s) {
+            throw new IllegalStateException(s);
+        }
+    }
 }
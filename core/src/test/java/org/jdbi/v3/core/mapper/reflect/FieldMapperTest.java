@@ -194,6 +194,32 @@ public class FieldMapperTest {
         assertThatThrownBy(() -> mapper.map(resultSet, ctx)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void shouldThrowOnNullForPrimitiveField() throws Exception {
+        handle.registerColumnMapper(int.class, (r, columnNumber, c) -> null);
+        mockColumns("packagePrivateIntField");
+
+        assertThatThrownBy(() -> mapper.map(resultSet, ctx))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("packagePrivateIntField");
+    }
+
+    @Test
+    public void shouldThrowOnValueOfWrongTypeForField() throws Exception {
+        handle.registerColumnMapper(int.class, (r, columnNumber, c) -> "one");
+        handle.registerColumnMapper(String.class, (r, columnNumber, c) -> 1);
+        mockColumns("packagePrivateIntField");
+
+        assertThatThrownBy(() -> mapper.map(resultSet, ctx))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("packagePrivateIntField");
+
+        mockColumns("protectedStringField");
+        assertThatThrownBy(() -> mapper.map(resultSet, ctx))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("protectedStringField");
+    }
+
     @Test
     public void shouldNotThrowOnMismatchedColumns() throws Exception {
         mockColumns("longField", "extraColumn");
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.jdbi.v3.core.Handle;
@@ -263,4 +265,36 @@ public class TestIterator {
             assertThat(h.isClosed()).isFalse();
         }
     }
+
+    @Test
+    public void testForEachRemainingAfterNext() {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+        h.createUpdate("insert into something (id, name) values (3, 'john')").execute();
+
+        List<String> names = new ArrayList<>();
+        ResultIterator<String> it = h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .mapTo(String.class)
+            .iterator();
+
+        names.add(it.next());
+        it.forEachRemaining(names::add);
+
+        assertThat(names).containsExactly("eric", "brian", "john");
+        assertThat(it.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testReduce() {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+
+        int sum = h.createQuery("select id from something")
+            .cleanupHandleRollback()
+            .mapTo(Integer.class)
+            .reduce(0, Integer::sum);
+
+        assertThat(sum).isEqualTo(3);
+    }
 }
@@ -100,6 +100,27 @@ public class TestReducing {
             new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
     }
 
+    @Test
+    public void testReduceRowsByColumnIndex() {
+        List<SomethingWithLocations> result = dbRule.getSharedHandle()
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location")
+            .reduceRows((Map<Integer, SomethingWithLocations> map, RowView rv) -> {
+                assertThat(rv.findColumn("ID")).isEqualTo(1);
+                assertThat(rv.findColumn("no_such_column")).isEqualTo(-1);
+
+                int location = rv.findColumn("location");
+                map.computeIfAbsent(rv.getColumn(1, Integer.class),
+                                    id -> new SomethingWithLocations(rv.getRow(Something.class)))
+                   .locations
+                   .add(rv.getColumn(location, String.class));
+            })
+            .collect(toList());
+
+        assertThat(result).containsExactly(
+            new SomethingWithLocations(new Something(1, "tree")).at("outside"),
+            new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
+    }
+
     @Test
     public void testReduceResultSet() {
         Map<Integer, SomethingWithLocations> result = dbRule.getSharedHandle()
@@ -14,8 +14,11 @@
 package org.jdbi.v3.core.result;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Optional;
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
 import org.junit.Rule;
@@ -43,6 +46,66 @@ public class TestResultBearing {
             .isEqualTo(10);
     }
 
+    @Test
+    public void testMapToPrimitives() {
+        Handle h = dbRule.getSharedHandle();
+        h.execute("INSERT INTO reduce VALUES (NULL)");
+
+        assertThat(h.createQuery("SELECT u FROM reduce ORDER BY u NULLS LAST").mapToInt(1).toArray())
+            .containsExactly(0, 1, 2, 3, 4, 0);
+        assertThat(h.createQuery("SELECT u FROM reduce").mapToLong(1).sum())
+            .isEqualTo(10L);
+        assertThat(h.createQuery("SELECT u / 2.0 FROM reduce WHERE u IS NOT NULL").mapToDouble(1).sum())
+            .isEqualTo(5.0);
+    }
+
+    @Test
+    public void testMapToLongUsesRegisteredMapper() {
+        Handle h = dbRule.getSharedHandle();
+        h.registerColumnMapper(long.class, (r, i, ctx) -> r.getLong(i) * 10);
+
+        assertThat(h.createQuery("SELECT u FROM reduce ORDER BY u").mapToLong(1).toArray())
+            .containsExactly(0, 10, 20, 30, 40);
+    }
+
+    @Test
+    public void testCollectColumns() {
+        Handle h = dbRule.getSharedHandle();
+        h.execute("INSERT INTO reduce VALUES (NULL)");
+
+        ResultColumns columns = h.createQuery("SELECT u, u * 1.5, 'u' || u FROM reduce ORDER BY u NULLS LAST")
+            .collectColumns(int.class, double.class, String.class);
+
+        assertThat(columns.getRowCount()).isEqualTo(6);
+        assertThat(columns.getColumnCount()).isEqualTo(3);
+        assertThat(columns.getInts(1)).containsExactly(0, 1, 2, 3, 4, 0);
+        assertThat(columns.getDoubles(2)).containsExactly(0, 1.5, 3, 4.5, 6, 0);
+        assertThat(columns.getObjects(3, String.class)).containsExactly("u0", "u1", "u2", "u3", "u4", null);
+        assertThat(columns.isNull(1, 0)).isFalse();
+        assertThat(columns.isNull(1, 5)).isTrue();
+        assertThat(columns.getNulls(2).cardinality()).isEqualTo(1);
+        assertThatThrownBy(() -> columns.getLongs(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCollectColumnsRecordsSqlNulls() {
+        Handle h = dbRule.getSharedHandle();
+        h.execute("INSERT INTO reduce VALUES (NULL)");
+        h.registerColumnMapper(Blank.class, (r, columnNumber, ctx) -> null);
+
+        ResultColumns columns = h.createQuery("SELECT u, u FROM reduce ORDER BY u NULLS LAST")
+            .collectColumns(new GenericType<Optional<Integer>>() {}.getType(), Blank.class);
+
+        assertThat(columns.getObjects(1, Optional.class)).containsExactly(
+            Optional.of(0), Optional.of(1), Optional.of(2), Optional.of(3), Optional.of(4), Optional.empty());
+        assertThat(columns.getObjects(2, Blank.class)).containsOnlyNulls();
+        assertThat(columns.getNulls(1).cardinality()).isEqualTo(1);
+        assertThat(columns.isNull(1, 5)).isTrue();
+        assertThat(columns.getNulls(2)).isEqualTo(columns.getNulls(1));
+    }
+
+    public static class Blank {}
+
     public static Integer add(Integer u, Integer v) {
         return u + v;
     }
@@ -14,7 +14,9 @@
 package org.jdbi.v3.core.statement;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.jdbi.v3.core.argument.Argument;
 import org.junit.Before;
 import org.junit.Rule;
@@ -23,6 +25,7 @@ import org.junit.rules.MethodRule;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -96,6 +99,31 @@ public class ArgumentBinderTest {
             .doesNotThrowAnyException();
     }
 
+    @Test
+    public void testRepeatedNamesBoundFromOneLookup() {
+        List<String> bound = new ArrayList<>();
+        Binding binding = new Binding();
+        binding.addNamed("a", (position, statement, ctx) -> bound.add(position + "=a"));
+        binding.addNamed("b", (position, statement, ctx) -> bound.add(position + "=b"));
+
+        ArgumentBinder.bind(namedParams("a", "b", "a"), binding, stmt, ctx);
+
+        assertThat(bound).containsExactly("1=a", "2=b", "3=a");
+    }
+
+    @Test
+    public void testNamedBindingPlanIsComputedOnce() {
+        ParsedParameters params = namedParams("a", "b", "a");
+
+        ParsedParameters.NamedBindingPlan plan = params.getNamedBindingPlan();
+        assertThat(plan).isSameAs(params.getNamedBindingPlan());
+        assertThat(plan.getNameCount()).isEqualTo(2);
+        assertThat(plan.getName(0)).isEqualTo("a");
+        assertThat(plan.getName(1)).isEqualTo("b");
+        assertThat(plan.getParameterCount()).isEqualTo(3);
+        assertThat(new int[] {plan.getSlot(0), plan.getSlot(1), plan.getSlot(2)}).containsExactly(0, 1, 0);
+    }
+
     private ParsedParameters positionalParams(int size) {
         String[] names = new String[size];
         Arrays.fill(names, "?");
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.CacheStats;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingStatementBuilder {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private Handle h;
+    private CachingStatementBuilder builder;
+
+    @Before
+    public void setUp() {
+        dbRule.getJdbi().setStatementBuilderFactory(CachingStatementBuilder.factory(2));
+        h = dbRule.openHandle();
+        builder = (CachingStatementBuilder) h.getStatementBuilder();
+    }
+
+    @After
+    public void tearDown() {
+        if (h != null) {
+            h.close();
+        }
+    }
+
+    @Test
+    public void testReusesStatement() {
+        for (int i = 0; i < 3; i++) {
+            h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", i)
+                .bind("name", "name" + i)
+                .execute();
+        }
+
+        assertThat(h.createQuery("select count(*) from something").mapTo(int.class).findOnly()).isEqualTo(3);
+
+        CacheStats stats = builder.getCacheStats();
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRestoresCustomizedLimits() {
+        h.execute("insert into something (id, name) values (1, 'eric'), (2, 'brian')");
+
+        assertThat(h.createQuery("select name from something order by id").setMaxRows(1).mapTo(String.class).list())
+            .containsExactly("eric");
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("eric", "brian");
+        assertThat(builder.getCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDoesNotShareStatementInUse() {
+        h.execute("insert into something (id, name) values (1, 'eric'), (2, 'brian')");
+
+        String sql = "select name from something where id >= :id order by id";
+        try (Query outer = h.createQuery(sql);
+             ResultIterator<String> outerNames = outer.bind("id", 1).mapTo(String.class).iterator()) {
+            // the second row keeps the outer statement open and in use
+            assertThat(outerNames.next()).isEqualTo("eric");
+            PreparedStatement outerStmt = outer.getContext().getStatement();
+
+            try (Query inner = h.createQuery(sql)) {
+                assertThat(inner.bind("id", 2).mapTo(String.class).list()).containsExactly("brian");
+                assertThat(inner.getContext().getStatement()).isNotSameAs(outerStmt);
+            }
+            assertThat(builder.getCacheStats().getHitCount()).isZero();
+
+            assertThat(outerNames.next()).isEqualTo("brian");
+            assertThat(outerNames.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testEvictsAndClosesLeastRecentlyUsed() throws Exception {
+        PreparedStatement first;
+        try (Query query = h.createQuery("select 1")) {
+            query.mapTo(int.class).findOnly();
+            first = query.getContext().getStatement();
+        }
+        h.createQuery("select 2").mapTo(int.class).findOnly();
+        h.createQuery("select 3").mapTo(int.class).findOnly();
+
+        assertThat(builder.getCacheStats().getEvictionCount()).isEqualTo(1);
+        assertThat(builder.getCacheStats().getSize()).isEqualTo(2);
+        assertThat(first.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testClosesStatementsWithHandle() throws Exception {
+        PreparedStatement stmt;
+        try (Query query = h.createQuery("select 1")) {
+            query.mapTo(int.class).findOnly();
+            stmt = query.getContext().getStatement();
+        }
+        assertThat(stmt.isClosed()).isFalse();
+
+        h.close();
+
+        assertThat(stmt.isClosed()).isTrue();
+    }
+}
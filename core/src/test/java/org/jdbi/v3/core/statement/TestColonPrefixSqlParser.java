@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.statement;
 
+import org.jdbi.v3.core.cache.CacheStats;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -96,6 +97,30 @@ public class TestColonPrefixSqlParser {
         assertThat(parsed).isSameAs(parser.parse(sql, ctx));
     }
 
+    @Test
+    public void testCacheKeyedBySqlContent() {
+        String sql = "select * from something where id = :id";
+        ParsedSql parsed = parser.parse(sql, ctx);
+
+        assertThat(parser.parse(new String(sql), ctx)).isSameAs(parsed);
+        assertThat(((CachingSqlParser) parser).getCacheStats())
+            .extracting("hitCount", "missCount")
+            .containsExactly(1L, 1L);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        parser = new ColonPrefixSqlParser(2);
+        for (int i = 0; i < 10; i++) {
+            parser.parse("select " + i + " from something where id = :id", ctx);
+        }
+
+        CacheStats stats = ((CachingSqlParser) parser).getCacheStats();
+        assertThat(stats.getSize()).isLessThanOrEqualTo(2);
+        assertThat(stats.getEvictionCount()).isGreaterThanOrEqualTo(8);
+        assertThat(stats.getMissCount()).isEqualTo(10);
+    }
+
     @Test
     public void testEscapedQuestionMark() {
         String sql = "SELECT '{\"a\":1, \"b\":2}'::jsonb ?? :key";
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.statement;
 import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
 import java.util.Map;
+import org.jdbi.v3.core.cache.CacheStats;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -88,4 +89,26 @@ public class TestDefinedAttributeTemplateEngine {
         String sql = "/* comment with : colons :: inside it */ select 1";
         assertThat(render(sql)).isEqualTo(sql);
     }
+
+    @Test
+    public void testTemplateWithoutTokensIsReturnedAsIs() {
+        String sql = "select * from something where id = :id";
+        assertThat(render(sql)).isSameAs(sql);
+    }
+
+    @Test
+    public void testCompilesEachTemplateOnce() {
+        String sql = "select <column> from <table>";
+        assertThat(render(sql, ImmutableMap.of("column", "foo", "table", "bar"))).isEqualTo("select foo from bar");
+        assertThat(render(new String(sql), ImmutableMap.of("column", "baz", "table", "qux"))).isEqualTo("select baz from qux");
+
+        CacheStats stats = ((DefinedAttributeTemplateEngine) templateEngine).getCacheStats();
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEscapedCharactersOutsideTokens() {
+        assertThat(render("select 1 \\<foo>")).isEqualTo("select 1 <foo>");
+    }
 }
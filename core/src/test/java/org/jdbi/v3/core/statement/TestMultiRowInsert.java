@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.SqliteDatabaseRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestMultiRowInsert {
+    @Rule
+    public SqliteDatabaseRule db = new SqliteDatabaseRule();
+
+    private static String rewrite(String sql, int rows) {
+        MultiRowInsert insert = MultiRowInsert.of(ParsedSql.of(sql, ParsedParameters.positional(2)));
+        return insert == null ? null : insert.getSql(rows);
+    }
+
+    @Test
+    public void testRepeatsRowOfValues() {
+        assertThat(rewrite("insert into t (a, b) values (?, ?)", 1))
+            .isEqualTo("insert into t (a, b) values (?, ?)");
+        assertThat(rewrite("INSERT INTO t VALUES (?, lower(?))", 3))
+            .isEqualTo("INSERT INTO t VALUES (?, lower(?)), (?, lower(?)), (?, lower(?))");
+    }
+
+    @Test
+    public void testIgnoresQuotesAndComments() {
+        assertThat(rewrite("insert into \"values\" (a, b) /* values */ values (?, 'x)values(')", 2))
+            .isEqualTo("insert into \"values\" (a, b) /* values */ values (?, 'x)values('), (?, 'x)values(')");
+    }
+
+    @Test
+    public void testRejectsOtherStatements() {
+        assertThat(rewrite("update t set a = ? where b = ?", 2)).isNull();
+        assertThat(rewrite("insert into t (a, b) select ?, ?", 2)).isNull();
+        assertThat(rewrite("insert into t (a, b) values (?, ?), (?, ?)", 2)).isNull();
+        assertThat(rewrite("insert into t (a, b) values (?, ?) on conflict do nothing", 2)).isNull();
+        assertThat(rewrite("with x as (select ?) insert into t (a, b) values (?, 1)", 2)).isNull();
+    }
+
+    @Test
+    public void testSqlite() {
+        Handle h = db.getSharedHandle();
+        h.execute("create table foo (id integer primary key, name varchar)");
+
+        PreparedBatch b = h.prepareBatch("insert into foo (id, name) values (:id, :name)").rewriteValues(3);
+        for (int i = 0; i < 5; i++) {
+            b.bind("id", i).bind("name", "Name " + i).add();
+        }
+
+        assertThat(b.execute()).containsExactly(1, 1, 1, 1, 1);
+        assertThat(h.createQuery("select name from foo order by id").mapTo(String.class).list())
+            .containsExactly("Name 0", "Name 1", "Name 2", "Name 3", "Name 4");
+    }
+}
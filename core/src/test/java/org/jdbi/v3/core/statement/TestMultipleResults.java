@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.JdbiPreparer;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.rule.PgDatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jdbi.v3.core.result.ResultProducers.returningMultipleResults;
+
+public class TestMultipleResults {
+    @Rule
+    public PgDatabaseRule dbRule = new PgDatabaseRule().withPreparer(new JdbiPreparer() {
+        @Override
+        protected void prepare(Handle handle) {
+            handle.execute("create table something (id integer primary key, name varchar(50))");
+            handle.execute("insert into something (id, name) values (1, 'one'), (2, 'two')");
+        }
+    });
+
+    private Handle h;
+
+    @Before
+    public void getHandle() {
+        h = dbRule.getJdbi().open();
+    }
+
+    @After
+    public void close() {
+        h.close();
+    }
+
+    @Test
+    public void testQuery() throws SQLException {
+        try (MultipleResults results = h.createQuery("select id, name from something order by id; "
+                + "select name from something where id = :id; select count(*) from something")
+                .bind("id", 2)
+                .execute(returningMultipleResults())) {
+            assertThat(results.next().mapToBean(Something.class).list())
+                .containsExactly(new Something(1, "one"), new Something(2, "two"));
+            assertThat(results.next().mapTo(String.class).findOnly()).isEqualTo("two");
+            assertThat(results.next().mapTo(int.class).findOnly()).isEqualTo(2);
+
+            assertThat(results.hasNext()).isFalse();
+            assertThat(results.getContext().getStatement().isClosed()).isTrue();
+            assertThatThrownBy(results::next).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void testScriptSkipsUpdateCounts() {
+        try (MultipleResults results = h.createScript("insert into something (id, name) values (3, 'three'); "
+                + "select name from something order by id; "
+                + "update something set name = 'many' where id > 1; "
+                + "select distinct name from something order by name")
+                .execute(returningMultipleResults())) {
+            assertThat(results.next().mapTo(String.class).list()).containsExactly("one", "two", "three");
+            assertThat(results.getUpdateCounts()).containsExactly(1);
+            assertThat(results.next().mapTo(String.class).list()).containsExactly("many", "one");
+            assertThat(results.getUpdateCounts()).containsExactly(1, 2);
+            assertThat(results.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testCall() {
+        try (MultipleResults results = h.createCall("{call generate_series(1, 3)}").execute(returningMultipleResults())) {
+            assertThat(results.next().mapTo(int.class).list()).containsExactly(1, 2, 3);
+            assertThat(results.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testNoResultSets() {
+        try (MultipleResults results = h.createScript("delete from something").execute(returningMultipleResults())) {
+            assertThat(results.hasNext()).isFalse();
+            assertThat(results.getUpdateCounts()).containsExactly(2);
+        }
+    }
+
+    @Test
+    public void testAdvancingClosesPreviousResultSet() {
+        try (MultipleResults results = h.createQuery("select 1; select 2").execute(returningMultipleResults())) {
+            ResultBearing first = results.next();
+            assertThat(results.next().mapTo(int.class).findOnly()).isEqualTo(2);
+
+            assertThatThrownBy(() -> first.mapTo(int.class).findOnly()).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(results::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    public void testCloseEarly() throws SQLException {
+        MultipleResults results = h.createQuery("select id from something; select name from something")
+            .execute(returningMultipleResults());
+        assertThat(results.next().mapTo(int.class).list()).containsExactlyInAnyOrder(1, 2);
+        results.close();
+
+        assertThat(results.getContext().getStatement().isClosed()).isTrue();
+        assertThat(results.hasNext()).isFalse();
+        assertThat(h.createQuery("select count(*) from something").mapTo(int.class).findOnly()).isEqualTo(2);
+    }
+}
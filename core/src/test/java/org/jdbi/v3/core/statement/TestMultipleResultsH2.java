@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.SQLException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jdbi.v3.core.result.ResultProducers.returningMultipleResults;
+
+public class TestMultipleResultsH2 {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.getSharedHandle();
+        h.execute("insert into something (id, name) values (1, 'one'), (2, 'two')");
+    }
+
+    @Test
+    public void testSingleResultSet() throws SQLException {
+        try (MultipleResults results = h.createQuery("select id, name from something order by id")
+                .execute(returningMultipleResults())) {
+            assertThat(results.next().mapToBean(Something.class).list())
+                .containsExactly(new Something(1, "one"), new Something(2, "two"));
+
+            assertThat(results.hasNext()).isFalse();
+            assertThat(results.getUpdateCounts()).isEmpty();
+            assertThat(results.getContext().getStatement().isClosed()).isTrue();
+        }
+    }
+
+    @Test
+    public void testEmptyResultSet() {
+        try (MultipleResults results = h.createQuery("select name from something where id = 3")
+                .execute(returningMultipleResults())) {
+            assertThat(results.next().mapTo(String.class).list()).isEmpty();
+            assertThat(results.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testUpdateCountOnly() {
+        try (MultipleResults results = h.createUpdate("update something set name = 'many'")
+                .execute(returningMultipleResults())) {
+            assertThat(results.hasNext()).isFalse();
+            assertThat(results.getUpdateCounts()).containsExactly(2);
+        }
+    }
+}
@@ -15,6 +15,10 @@ package org.jdbi.v3.core.statement;
 
 import com.google.common.collect.ImmutableMap;
 import java.beans.ConstructorProperties;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.jdbi.v3.core.Handle;
@@ -27,6 +31,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -76,6 +81,114 @@ public class TestPreparedBatch {
         assertThat(rowCount).isEqualTo(count);
     }
 
+    @Test
+    public void testFlushEvery() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .flushEvery(10);
+
+        for (int i = 0; i < 25; ++i) {
+            b.bind("id", i).bind("name", "A Name").add();
+            assertThat(b.size()).isEqualTo((i + 1) % 10);
+        }
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).findOnly()).isEqualTo(20);
+
+        int[] counts = b.execute();
+
+        assertThat(counts).hasSize(25).containsOnly(1);
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).findOnly()).isEqualTo(25);
+
+        b.bind("id", 100).bind("name", "Again").add();
+        assertThat(b.execute()).containsExactly(1);
+    }
+
+    @Test
+    public void testFlushEveryRejectsResults() {
+        PreparedBatch flushed = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .flushEvery(1);
+        flushed.bind("id", 1).bind("name", "Eric").add();
+
+        assertThatThrownBy(() -> flushed.executeAndReturnGeneratedKeys("id"))
+            .isInstanceOf(IllegalStateException.class);
+
+        PreparedBatch pending = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .flushEvery(10);
+        pending.bind("id", 2).bind("name", "Brian").add();
+
+        assertThatThrownBy(() -> pending.executeAndReturnGeneratedKeys("id"))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> pending.mapTo(int.class).list())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(pending.execute()).containsExactly(1);
+    }
+
+    @Test
+    public void testFlushEveryRejectsDefineAfterFirstPart() {
+        PreparedBatch b = h.prepareBatch("insert into <table> (id, name) values (:id, :name)")
+            .define("table", "something")
+            .flushEvery(10);
+        b.bind("id", 1).bind("name", "Eric").add();
+        b.define("table", "other");
+
+        assertThatThrownBy(() -> b.bind("id", 2).bind("name", "Brian").add())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testRewriteValues() {
+        List<String> prepared = new ArrayList<>();
+        h.setStatementBuilder(new DefaultStatementBuilder() {
+            @Override
+            public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+                prepared.add(sql);
+                return super.create(conn, sql, ctx);
+            }
+        });
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .rewriteValues(4);
+
+        for (int i = 0; i < 11; ++i) {
+            b.bind("id", i).bind("name", "Name " + i).add();
+        }
+        int[] counts = b.execute();
+
+        assertThat(counts).hasSize(11).containsOnly(1);
+        assertThat(prepared).containsExactly(
+            "insert into something (id, name) values (?, ?), (?, ?), (?, ?), (?, ?)",
+            "insert into something (id, name) values (?, ?), (?, ?)",
+            "insert into something (id, name) values (?, ?)");
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Name 0", "Name 1", "Name 2", "Name 3", "Name 4", "Name 5",
+                "Name 6", "Name 7", "Name 8", "Name 9", "Name 10");
+    }
+
+    @Test
+    public void testRewriteValuesPositional() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)")
+            .rewriteValues(2);
+
+        b.add(0, "Keith");
+        b.add(1, "Eric");
+        b.add(2, "Brian");
+
+        assertThat(b.execute()).containsExactly(1, 1, 1);
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Keith", "Eric", "Brian");
+    }
+
+    @Test
+    public void testRewriteValuesRejectsOtherStatements() {
+        h.execute("insert into something (id, name) values (1, 'Eric')");
+        PreparedBatch b = h.prepareBatch("update something set name = :name where id = :id")
+            .rewriteValues(2);
+        b.bind("id", 1).bind("name", "Brian").add();
+
+        assertThatThrownBy(b::execute).isInstanceOf(UnableToCreateStatementException.class);
+        assertThatThrownBy(() -> h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .rewriteValues(2)
+            .flushEvery(2))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     public void testBindProperties() {
         PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)");
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.CacheStats;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestPreparedQuery {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = dbRule.openHandle();
+        h.execute("insert into something (id, name) values (1, 'eric'), (2, 'brian')");
+    }
+
+    @After
+    public void tearDown() {
+        if (h != null) {
+            h.close();
+        }
+    }
+
+    @Test
+    public void testExecutesRepeatedlyWithoutParsing() {
+        PreparedQuery query = h.define("table", "something")
+            .prepareQuery("select name from <table> where id = :id");
+
+        assertThat(query.getRenderedSql()).isEqualTo("select name from something where id = :id");
+        assertThat(query.getParsedSql().getSql()).isEqualTo("select name from something where id = ?");
+
+        CacheStats before = h.getConfig(SqlStatements.class).getSqlParserCacheStats();
+
+        assertThat(query.createQuery().bind("id", 1).mapTo(String.class).findOnly()).isEqualTo("eric");
+        assertThat(query.createQuery().bind("id", 2).mapTo(String.class).findOnly()).isEqualTo("brian");
+
+        assertThat(h.getConfig(SqlStatements.class).getSqlParserCacheStats().getRequestCount())
+            .isEqualTo(before.getRequestCount());
+    }
+
+    @Test
+    public void testPreparedUpdate() {
+        PreparedUpdate update = h.prepareUpdate("update something set name = :name where id = :id");
+
+        assertThat(update.createUpdate().bind("id", 1).bind("name", "ERIC").execute()).isEqualTo(1);
+        assertThat(update.createUpdate().bind("id", 2).bind("name", "BRIAN").execute()).isEqualTo(1);
+
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("ERIC", "BRIAN");
+    }
+
+    @Test
+    public void testContextReportsPreparedSql() {
+        PreparedQuery prepared = h.prepareQuery("select name from something where id = :id");
+
+        try (Query query = prepared.createQuery()) {
+            query.bind("id", 1).mapTo(String.class).findOnly();
+
+            assertThat(query.getContext().getRenderedSql()).isEqualTo(prepared.getRenderedSql());
+            assertThat(query.getContext().getParsedSql()).isSameAs(prepared.getParsedSql());
+        }
+    }
+}
@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.kotlin
 
+import org.jdbi.v3.core.internal.JdbiAccessors
 import org.jdbi.v3.core.mapper.Nested
 import org.jdbi.v3.core.mapper.RowMapper
 import org.jdbi.v3.core.mapper.SingleColumnMapper
@@ -37,12 +38,17 @@ import kotlin.reflect.full.findAnnotation
 import kotlin.reflect.full.memberProperties
 import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.isAccessible
+import kotlin.reflect.jvm.javaConstructor
 import kotlin.reflect.jvm.javaField
+import kotlin.reflect.jvm.javaSetter
 import kotlin.reflect.jvm.javaType
 import kotlin.reflect.jvm.jvmErasure
 
 private val nullValueRowMapper = RowMapper<Any?> { _, _ -> null }
 
+private const val DEFAULT_CONSTRUCTOR_MARKER = "kotlin.jvm.internal.DefaultConstructorMarker"
+private const val PARAMETERS_PER_DEFAULT_MASK = 32
+
 class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper<Any> {
     private val kClass: KClass<*> = clazz.kotlin
     private val constructor = findConstructor(kClass)
@@ -56,6 +62,12 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
     private val nestedMappers = ConcurrentHashMap<KParameter, KotlinMapper>()
     private val nestedPropertyMappers = ConcurrentHashMap<KMutableProperty1<*, *>, KotlinMapper>()
 
+    // keyed by which constructor parameters are left to their default values
+    private val instantiators = ConcurrentHashMap<List<Boolean>, Instantiator>()
+    private val propertyWriters by lazy {
+        memberProperties.associate { property -> property to propertyWriter(property) }
+    }
+
     override fun map(rs: ResultSet, ctx: StatementContext): Any {
         return specialize(rs, ctx).map(rs, ctx)
     }
@@ -124,28 +136,111 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
             return Optional.empty()
         }
 
-        val constructorParameterMappers = resolvedConstructorParameters
-            .mapValues { (_, value) -> value.second }
-            // We filter 'null' mappers to remove parameters with no mappers but a default value
-            .filterValues { it != null }
+        // 'null' mappers are parameters with no mappers but a default value
+        val constructorParameterMappers: Array<RowMapper<*>?> = constructorParameters
+            .map { parameter -> resolvedConstructorParameters.getValue(parameter).second }
+            .toTypedArray()
+
+        val memberPropertyWriters: Array<(Any, Any?) -> Unit> = memberPropertyMappers.keys
+            .map { property -> propertyWriters.getValue(property) }
+            .toTypedArray()
+        val memberPropertyValueMappers: Array<RowMapper<*>?> = memberPropertyMappers.values.toTypedArray()
+
+        val instantiator = instantiators.computeIfAbsent(constructorParameterMappers.map { it == null }) { defaulted ->
+            instantiator(defaulted)
+        }
 
         return Optional.of(RowMapper { r, c ->
-            val constructorParametersWithValues = constructorParameterMappers
-                .mapValues { it.value?.map(r, c) }
+            val arguments = instantiator.newArguments()
+            for (i in constructorParameterMappers.indices) {
+                val mapper = constructorParameterMappers[i]
+                if (mapper != null) {
+                    arguments[i] = mapper.map(r, c)
+                }
+            }
 
-            val memberPropertiesWithValues = memberPropertyMappers
-                .mapValues { it.value?.map(r, c) }
+            val propertyValues = arrayOfNulls<Any?>(memberPropertyValueMappers.size)
+            for (i in memberPropertyValueMappers.indices) {
+                propertyValues[i] = memberPropertyValueMappers[i]?.map(r, c)
+            }
 
-            constructor.isAccessible = true
-            constructor.callBy(constructorParametersWithValues).also { instance ->
-                memberPropertiesWithValues.forEach { (prop, value) ->
-                    prop.isAccessible = true
-                    prop.setter.call(instance, value)
+            instantiator.newInstance(arguments).also { instance ->
+                for (i in memberPropertyWriters.indices) {
+                    memberPropertyWriters[i].invoke(instance, propertyValues[i])
                 }
             }
         })
     }
 
+    /**
+     * Calls the constructor with positional arguments. Parameters left to their defaults
+     * go through the synthetic constructor Kotlin generates for default arguments, with
+     * the bit masks of defaulted parameters computed once up front.
+     */
+    private class Instantiator(private val template: Array<Any?>, private val invoker: (Array<Any?>) -> Any) {
+        fun newArguments(): Array<Any?> = template.copyOf()
+
+        fun newInstance(arguments: Array<Any?>): Any = invoker(arguments)
+    }
+
+    private fun instantiator(defaulted: List<Boolean>): Instantiator {
+        val javaConstructor = constructor.javaConstructor
+        if (javaConstructor == null ||
+            javaConstructor.parameterCount != constructorParameters.size ||
+            constructorParameters.any { it.kind != KParameter.Kind.VALUE }) {
+            return reflectiveInstantiator(defaulted)
+        }
+
+        if (defaulted.none { it }) {
+            val invoker = JdbiAccessors.constructorInvoker(javaConstructor)
+            return Instantiator(arrayOfNulls(defaulted.size)) { arguments -> invoker.apply(arguments) }
+        }
+
+        val parameterTypes = javaConstructor.parameterTypes
+        val maskCount = (parameterTypes.size + PARAMETERS_PER_DEFAULT_MASK - 1) / PARAMETERS_PER_DEFAULT_MASK
+        val defaultsConstructor = try {
+            javaConstructor.declaringClass.getDeclaredConstructor(
+                *parameterTypes,
+                *Array<Class<*>>(maskCount) { Int::class.java },
+                Class.forName(DEFAULT_CONSTRUCTOR_MARKER))
+        } catch (e: NoSuchMethodException) {
+            return reflectiveInstantiator(defaulted)
+        }
+
+        val template = arrayOfNulls<Any?>(parameterTypes.size + maskCount + 1)
+        val masks = IntArray(maskCount)
+        defaulted.forEachIndexed { i, isDefaulted ->
+            if (isDefaulted) {
+                val mask = i / PARAMETERS_PER_DEFAULT_MASK
+                masks[mask] = masks[mask] or (1 shl (i % PARAMETERS_PER_DEFAULT_MASK))
+                template[i] = zeroValue(parameterTypes[i])
+            }
+        }
+        masks.forEachIndexed { i, mask -> template[parameterTypes.size + i] = mask }
+
+        val invoker = JdbiAccessors.constructorInvoker(defaultsConstructor)
+        return Instantiator(template) { arguments -> invoker.apply(arguments) }
+    }
+
+    private fun reflectiveInstantiator(defaulted: List<Boolean>): Instantiator {
+        constructor.isAccessible = true
+        val mappedParameters = constructorParameters.filterIndexed { i, _ -> !defaulted[i] }
+        return Instantiator(arrayOfNulls(constructorParameters.size)) { arguments ->
+            constructor.callBy(mappedParameters.associate { parameter -> parameter to arguments[parameter.index] })
+        }
+    }
+
+    private fun propertyWriter(property: KMutableProperty1<*, *>): (Any, Any?) -> Unit {
+        val setter = property.javaSetter
+        if (setter != null) {
+            val accessor = JdbiAccessors.setter(setter)
+            return { instance, value -> accessor.accept(instance, value) }
+        }
+
+        property.isAccessible = true
+        return { instance, value -> property.setter.call(instance, value) }
+    }
+
     private enum class ParamResolution {
         MAPPED,
         USE_DEFAULT,
@@ -263,6 +358,9 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
     }
 }
 
+private fun zeroValue(type: Class<*>): Any? =
+    if (type.isPrimitive) java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(type, 1), 0) else null
+
 private fun <C : Any> findConstructor(kClass: KClass<C>) : KFunction<C> {
     val annotatedConstructors = kClass.constructors.filter { it.findAnnotation<JdbiConstructor>() != null }
     return when {
@@ -538,4 +538,27 @@ class KotlinMapperTest {
             .first())
             .isEqualTo(ClassWithNullableNestedProperty(1).also { it.nested = NestedDataClass("foo", "bar") })
     }
+
+    data class DataClassWithDefaultedParameters(val id: Int,
+                                                val count: Int = 7,
+                                                val first: String = "default first",
+                                                val enabled: Boolean = true)
+
+    @Test
+    fun testDataClassWithDefaultedParameters() {
+        assertThat(handle.select("select 1 as id")
+            .mapTo<DataClassWithDefaultedParameters>()
+            .first())
+            .isEqualTo(DataClassWithDefaultedParameters(1))
+
+        assertThat(handle.select("select 1 as id, 'foo' as first")
+            .mapTo<DataClassWithDefaultedParameters>()
+            .first())
+            .isEqualTo(DataClassWithDefaultedParameters(1, first = "foo"))
+
+        assertThat(handle.select("select 1 as id, 2 as count, 'foo' as first, false as enabled")
+            .mapTo<DataClassWithDefaultedParameters>()
+            .first())
+            .isEqualTo(DataClassWithDefaultedParameters(1, 2, "foo", false))
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.lib.internal.com_google_guava.guava.v21_0.Reflection;
+
+/**
+ * Applies {@link Argument}s to a recording {@link PreparedStatement}, to find out which value
+ * they would bind, so values can be converted by the registered argument factories without
+ * executing a statement.
+ */
+class ArgumentCapture {
+    private final StatementContext ctx;
+    private final PreparedStatement statement;
+    private Object value;
+
+    ArgumentCapture(StatementContext ctx) {
+        this.ctx = ctx;
+        this.statement = Reflection.newProxy(PreparedStatement.class, this::record);
+    }
+
+    /**
+     * @param argument the argument
+     * @return the value the argument binds, or null if it binds null
+     * @throws SQLException if the argument fails to apply itself
+     */
+    Object capture(Argument argument) throws SQLException {
+        value = null;
+        argument.apply(1, statement, ctx);
+        return value;
+    }
+
+    private Object record(Object proxy, Method method, Object[] args) throws SQLException, IOException {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "ArgumentCapture";
+            }
+        }
+        if ("getConnection".equals(name)) {
+            return ctx.getConnection();
+        }
+        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            if ("setNull".equals(name)) {
+                value = null;
+            } else if ("setAsciiStream".equals(name)) {
+                value = new String((byte[]) read(args[1]), StandardCharsets.US_ASCII);
+            } else {
+                value = read(args[1]);
+            }
+            return null;
+        }
+        throw new SQLFeatureNotSupportedException(name + " is not supported while encoding values for COPY");
+    }
+
+    private static Object read(Object value) throws IOException {
+        if (value instanceof InputStream) {
+            InputStream in = (InputStream) value;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n = in.read(buffer);
+            while (n != -1) {
+                bytes.write(buffer, 0, n);
+                n = in.read(buffer);
+            }
+            return bytes.toByteArray();
+        }
+        if (value instanceof Reader) {
+            Reader reader = (Reader) value;
+            StringBuilder chars = new StringBuilder();
+            char[] buffer = new char[8192];
+            int n = reader.read(buffer);
+            while (n != -1) {
+                chars.append(buffer, 0, n);
+                n = reader.read(buffer);
+            }
+            return chars.toString();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes rows in one of the formats of the Postgres {@code COPY} command.
+ */
+abstract class CopyEncoder {
+    /**
+     * @param target the stream to write to
+     * @return an encoder for the text format
+     */
+    static CopyEncoder text(OutputStream target) {
+        return new Text(target);
+    }
+
+    /**
+     * @param target the stream to write to
+     * @return an encoder for the binary format
+     */
+    static CopyEncoder binary(OutputStream target) {
+        return new Binary(target);
+    }
+
+    abstract void start() throws IOException;
+
+    abstract void startRow(int columns) throws IOException;
+
+    /**
+     * @param value a value as bound by an argument, or null
+     */
+    abstract void write(Object value) throws IOException;
+
+    abstract void endRow() throws IOException;
+
+    abstract void finish() throws IOException;
+
+    private static final class Text extends CopyEncoder {
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final OutputStream out;
+        private final StringBuilder row = new StringBuilder();
+        private boolean first;
+
+        Text(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        void start() {}
+
+        @Override
+        void startRow(int columns) {
+            first = true;
+        }
+
+        @Override
+        void write(Object value) {
+            if (!first) {
+                row.append('\t');
+            }
+            first = false;
+
+            if (value == null) {
+                row.append("\\N");
+                return;
+            }
+
+            String text = toText(value);
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\':
+                        row.append("\\\\");
+                        break;
+                    case '\n':
+                        row.append("\\n");
+                        break;
+                    case '\r':
+                        row.append("\\r");
+                        break;
+                    case '\t':
+                        row.append("\\t");
+                        break;
+                    default:
+                        row.append(c);
+                        break;
+                }
+            }
+        }
+
+        @Override
+        void endRow() throws IOException {
+            row.append('\n');
+            out.write(row.toString().getBytes(StandardCharsets.UTF_8));
+            row.setLength(0);
+        }
+
+        @Override
+        void finish() {}
+
+        private static String toText(Object value) {
+            if (value instanceof String) {
+                return (String) value;
+            }
+            if (value instanceof Boolean) {
+                return (Boolean) value ? "t" : "f";
+            }
+            if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).toPlainString();
+            }
+            if (value instanceof byte[]) {
+                byte[] bytes = (byte[]) value;
+                char[] hex = new char[2 + bytes.length * 2];
+                hex[0] = '\\';
+                hex[1] = 'x';
+                for (int i = 0; i < bytes.length; i++) {
+                    hex[2 + i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+                    hex[3 + i * 2] = HEX[bytes[i] & 0xf];
+                }
+                return new String(hex);
+            }
+            if (value instanceof Timestamp) {
+                // like setTimestamp, send the JVM's offset along, which timestamp columns ignore
+                return ((Timestamp) value).toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime().toString();
+            }
+            if (value instanceof Map) {
+                return toHStore((Map<?, ?>) value);
+            }
+            // numbers, dates, times, UUIDs, PGobjects and driver arrays print their Postgres literal
+            return String.valueOf(value);
+        }
+
+        private static String toHStore(Map<?, ?> map) {
+            StringBuilder hstore = new StringBuilder();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (hstore.length() > 0) {
+                    hstore.append(", ");
+                }
+                quote(hstore, entry.getKey()).append("=>");
+                if (entry.getValue() == null) {
+                    hstore.append("NULL");
+                } else {
+                    quote(hstore, entry.getValue());
+                }
+            }
+            return hstore.toString();
+        }
+
+        private static StringBuilder quote(StringBuilder hstore, Object value) {
+            String text = String.valueOf(value);
+            hstore.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    hstore.append('\\');
+                }
+                hstore.append(c);
+            }
+            return hstore.append('"');
+        }
+    }
+
+    private static final class Binary extends CopyEncoder {
+        private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+        private static final long EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+        private static final long EPOCH_SECOND = EPOCH_DAY * 86_400;
+
+        private final OutputStream target;
+        private final ByteArrayOutputStream row = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(row);
+
+        Binary(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        void start() throws IOException {
+            out.write(SIGNATURE);
+            out.writeInt(0); // flags
+            out.writeInt(0); // header extension length
+        }
+
+        @Override
+        void startRow(int columns) throws IOException {
+            out.writeShort(columns);
+        }
+
+        @Override
+        void write(Object value) throws IOException {
+            if (value == null) {
+                out.writeInt(-1);
+            } else if (value instanceof String || value instanceof Character) {
+                writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Boolean) {
+                out.writeInt(1);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Short || value instanceof Byte) {
+                out.writeInt(2);
+                out.writeShort(((Number) value).shortValue());
+            } else if (value instanceof Integer) {
+                out.writeInt(4);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeInt(8);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeInt(4);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeInt(8);
+                out.writeDouble((Double) value);
+            } else if (value instanceof BigDecimal) {
+                writeNumeric((BigDecimal) value);
+            } else if (value instanceof byte[]) {
+                writeBytes((byte[]) value);
+            } else if (value instanceof UUID) {
+                out.writeInt(16);
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+            } else if (value instanceof LocalDate || value instanceof java.sql.Date) {
+                LocalDate date = value instanceof LocalDate ? (LocalDate) value : ((java.sql.Date) value).toLocalDate();
+                out.writeInt(4);
+                out.writeInt(Math.toIntExact(date.toEpochDay() - EPOCH_DAY));
+            } else if (value instanceof LocalTime || value instanceof Time) {
+                LocalTime time = value instanceof LocalTime ? (LocalTime) value : ((Time) value).toLocalTime();
+                out.writeInt(8);
+                out.writeLong(time.toNanoOfDay() / 1000);
+            } else if (value instanceof LocalDateTime || value instanceof Timestamp) {
+                LocalDateTime dateTime = value instanceof LocalDateTime
+                    ? (LocalDateTime) value
+                    : ((Timestamp) value).toLocalDateTime();
+                writeMicros(dateTime.toInstant(ZoneOffset.UTC));
+            } else if (value instanceof OffsetDateTime) {
+                writeMicros(((OffsetDateTime) value).toInstant());
+            } else if (value instanceof ZonedDateTime) {
+                writeMicros(((ZonedDateTime) value).toInstant());
+            } else if (value instanceof Instant) {
+                writeMicros((Instant) value);
+            } else {
+                throw new IllegalArgumentException("Values of " + value.getClass().getName()
+                    + " can't be encoded in the binary COPY format, use the text format instead");
+            }
+        }
+
+        @Override
+        void endRow() throws IOException {
+            row.writeTo(target);
+            row.reset();
+        }
+
+        @Override
+        void finish() throws IOException {
+            out.writeShort(-1);
+            endRow();
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeMicros(Instant instant) throws IOException {
+            out.writeInt(8);
+            out.writeLong((instant.getEpochSecond() - EPOCH_SECOND) * 1_000_000 + instant.getNano() / 1000);
+        }
+
+        /**
+         * Writes a numeric as its base 10000 digits, aligned on the decimal point.
+         */
+        private void writeNumeric(BigDecimal value) throws IOException {
+            String plain = value.abs().toPlainString();
+            int point = plain.indexOf('.');
+            String integer = point < 0 ? plain : plain.substring(0, point);
+            String fraction = point < 0 ? "" : plain.substring(point + 1);
+
+            StringBuilder decimal = new StringBuilder();
+            int integerPadding = (4 - integer.length() % 4) % 4;
+            for (int i = 0; i < integerPadding; i++) {
+                decimal.append('0');
+            }
+            decimal.append(integer).append(fraction);
+            while (decimal.length() % 4 != 0) {
+                decimal.append('0');
+            }
+
+            short[] digits = new short[decimal.length() / 4];
+            for (int i = 0; i < digits.length; i++) {
+                digits[i] = Short.parseShort(decimal.substring(i * 4, i * 4 + 4));
+            }
+
+            int weight = (integerPadding + integer.length()) / 4 - 1;
+            int first = 0;
+            while (first < digits.length && digits[first] == 0) {
+                first++;
+                weight--;
+            }
+            int last = digits.length;
+            while (last > first && digits[last - 1] == 0) {
+                last--;
+            }
+            if (first == last) {
+                weight = 0;
+            }
+
+            out.writeInt(8 + 2 * (last - first));
+            out.writeShort(last - first);
+            out.writeShort(weight);
+            out.writeShort(value.signum() < 0 ? 0x4000 : 0);
+            out.writeShort(Math.max(value.scale(), 0));
+            for (int i = first; i < last; i++) {
+                out.writeShort(digits[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.BeanPropertyArguments;
+import org.jdbi.v3.core.argument.MapArguments;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.argument.ObjectArgumentFactory;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.Configurable;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.meta.Beta;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Bulk loads rows into a table with the Postgres {@code COPY ... FROM STDIN} command, which
+ * is considerably faster than inserting them with a
+ * {@link org.jdbi.v3.core.statement.PreparedBatch}:
+ *
+ * <pre>
+ * long rows = CopyIn.into(handle, "something", "id", "name").beans(somethings);
+ * </pre>
+ *
+ * <p>
+ * Rows are given as beans, maps or arrays of values, and pulled from their iterable or stream
+ * only as fast as the encoded rows can be sent through a buffer of fixed size, so rows of any
+ * number can be loaded in constant memory. Values are converted by the argument factories
+ * registered with the handle (e.g. by {@link PostgresPlugin}), as if they were bound to a
+ * statement.
+ *
+ * <p>
+ * The default text format works for any value the arguments bind. The {@link #binary()} format
+ * is more compact and cheaper for the server to parse, but supports fewer Java types, each of
+ * which must match the type of its column exactly: {@code Boolean}, {@code Short} and
+ * {@code Byte} ({@code smallint}), {@code Integer}, {@code Long}, {@code Float}, {@code Double},
+ * {@code BigDecimal} ({@code numeric}), {@code String} and {@code Character} ({@code text},
+ * {@code varchar} and enums), {@code byte[]} ({@code bytea}), {@code UUID}, {@code LocalDate}
+ * and {@code java.sql.Date} ({@code date}), {@code LocalTime} and {@code java.sql.Time}
+ * ({@code time}), {@code LocalDateTime} and {@code Timestamp} ({@code timestamp}), and
+ * {@code OffsetDateTime}, {@code ZonedDateTime} and {@code Instant} ({@code timestamptz}).
+ *
+ * <p>
+ * The table and column names are copied into the {@code COPY} command as given. Bean
+ * properties and map keys are looked up by column name.
+ */
+@Beta
+public class CopyIn implements Configurable<CopyIn> {
+    /**
+     * The default size of the buffer of encoded rows, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65_536;
+
+    // the binary format encodes these as they are, instead of the Timestamp they would be bound as,
+    // which can't tell a timestamp from a timestamptz
+    private static final Class<?>[] BINARY_TIME_TYPES = {
+        LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetDateTime.class, ZonedDateTime.class, Instant.class
+    };
+
+    private final Handle handle;
+    private final String table;
+    private final String[] columns;
+    // only used for its configuration and statement context, closed after each copy
+    private final Update statement;
+
+    private boolean binary;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private long rowsEncoded;
+    private long bytesEncoded;
+
+    private CopyIn(Handle handle, String table, String[] columns) {
+        this.handle = handle;
+        this.table = table;
+        this.columns = Arrays.copyOf(columns, columns.length);
+        this.statement = handle.createUpdate(sql(table, columns, false));
+    }
+
+    /**
+     * @param handle the handle to copy with
+     * @param table the table to copy into
+     * @param columns the columns to copy values into, in order
+     * @return a copy into the table
+     */
+    public static CopyIn into(Handle handle, String table, String... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        return new CopyIn(handle, table, columns);
+    }
+
+    @Override
+    public ConfigRegistry getConfig() {
+        return statement.getConfig();
+    }
+
+    /**
+     * Copy in the binary instead of the text format.
+     *
+     * @return this
+     */
+    public CopyIn binary() {
+        if (!binary) {
+            for (Class<?> type : BINARY_TIME_TYPES) {
+                registerArgument(ObjectArgumentFactory.create(type));
+            }
+        }
+        this.binary = true;
+        return this;
+    }
+
+    /**
+     * @param bufferSize the size of the buffer of encoded rows, in bytes
+     * @return this
+     */
+    public CopyIn bufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive, was " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * @return the {@code COPY} command this copy executes
+     */
+    public String getSql() {
+        return sql(table, columns, binary);
+    }
+
+    /**
+     * Copy the properties of beans, named like the columns.
+     *
+     * @param beans the beans
+     * @return the number of rows copied
+     */
+    public long beans(Iterable<?> beans) {
+        return copyNamed(beans.iterator(), BeanPropertyArguments::new);
+    }
+
+    /**
+     * Copy the properties of beans, named like the columns.
+     *
+     * @param beans the beans, closed once they are copied
+     * @return the number of rows copied
+     */
+    public long beans(Stream<?> beans) {
+        try (Stream<?> stream = beans) {
+            return copyNamed(stream.iterator(), BeanPropertyArguments::new);
+        }
+    }
+
+    /**
+     * Copy the values of maps, keyed by column name.
+     *
+     * @param maps the maps
+     * @return the number of rows copied
+     */
+    public long maps(Iterable<? extends Map<String, ?>> maps) {
+        return copyNamed(maps.iterator(), (prefix, map) -> new MapArguments(map));
+    }
+
+    /**
+     * Copy the values of maps, keyed by column name.
+     *
+     * @param maps the maps, closed once they are copied
+     * @return the number of rows copied
+     */
+    public long maps(Stream<? extends Map<String, ?>> maps) {
+        try (Stream<? extends Map<String, ?>> stream = maps) {
+            return copyNamed(stream.iterator(), (prefix, map) -> new MapArguments(map));
+        }
+    }
+
+    /**
+     * Copy arrays of values, one for each column in order.
+     *
+     * @param tuples the arrays of values
+     * @return the number of rows copied
+     */
+    public long tuples(Iterable<Object[]> tuples) {
+        return copyTuples(tuples.iterator());
+    }
+
+    /**
+     * Copy arrays of values, one for each column in order.
+     *
+     * @param tuples the arrays of values, closed once they are copied
+     * @return the number of rows copied
+     */
+    public long tuples(Stream<Object[]> tuples) {
+        try (Stream<Object[]> stream = tuples) {
+            return copyTuples(stream.iterator());
+        }
+    }
+
+    /**
+     * @return the number of rows encoded by this copy so far
+     */
+    public long getRowsEncoded() {
+        return rowsEncoded;
+    }
+
+    /**
+     * @return the number of bytes encoded by this copy so far, which are sent to the database
+     * whenever the buffer fills up
+     */
+    public long getBytesEncoded() {
+        return bytesEncoded;
+    }
+
+    private static String sql(String table, String[] columns, boolean binary) {
+        return "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN"
+            + (binary ? " WITH (FORMAT binary)" : "");
+    }
+
+    private <T> long copyNamed(Iterator<T> rows, FinderFactory<? super T> finders) {
+        StatementContext ctx = statement.getContext();
+        return copy(rows, row -> {
+            NamedArgumentFinder finder = finders.create(null, row);
+            return column -> finder.find(columns[column], ctx)
+                .orElseThrow(() -> new UnableToCreateStatementException(
+                    String.format("Missing value for column '%s' in %s", columns[column], row), ctx));
+        });
+    }
+
+    private long copyTuples(Iterator<Object[]> tuples) {
+        StatementContext ctx = statement.getContext();
+        return copy(tuples, tuple -> {
+            if (tuple.length != columns.length) {
+                throw new UnableToCreateStatementException(
+                    String.format("Expected %d values, got %d", columns.length, tuple.length), ctx);
+            }
+            return column -> {
+                Object value = tuple[column];
+                Class<?> type = value == null ? Object.class : value.getClass();
+                return ctx.findArgumentFor(type, value)
+                    .orElseThrow(() -> new UnableToCreateStatementException(
+                        "No argument factory registered for '" + value + "' of type " + type, ctx));
+            };
+        });
+    }
+
+    private <T> long copy(Iterator<T> rows, Function<? super T, IntFunction<Argument>> rowArguments) {
+        StatementContext ctx = statement.getContext();
+        ArgumentCapture capture = new ArgumentCapture(ctx);
+
+        PGCopyOutputStream copy;
+        try {
+            copy = new PGCopyOutputStream(handle.getConnection().unwrap(PGConnection.class), getSql(), bufferSize);
+        } catch (SQLException e) {
+            UnableToCreateStatementException failure = new UnableToCreateStatementException(e, ctx);
+            closeStatement(failure);
+            throw failure;
+        }
+
+        long rowsCopied;
+        try {
+            OutputStream out = new CountingOutputStream(copy);
+            CopyEncoder encoder = binary ? CopyEncoder.binary(out) : CopyEncoder.text(out);
+            encoder.start();
+            while (rows.hasNext()) {
+                IntFunction<Argument> arguments = rowArguments.apply(rows.next());
+                encoder.startRow(columns.length);
+                for (int column = 0; column < columns.length; column++) {
+                    encoder.write(capture.capture(arguments.apply(column)));
+                }
+                encoder.endRow();
+                rowsEncoded++;
+            }
+            encoder.finish();
+            rowsCopied = copy.endCopy();
+        } catch (IOException | SQLException e) {
+            UnableToExecuteStatementException failure =
+                new UnableToExecuteStatementException("Exception copying rows into " + table, e, ctx);
+            cancel(copy, failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            cancel(copy, e);
+            throw e;
+        }
+
+        statement.close();
+        return rowsCopied;
+    }
+
+    private void cancel(PGCopyOutputStream copy, Exception e) {
+        if (copy.isActive()) {
+            try {
+                copy.cancelCopy();
+            } catch (SQLException e1) {
+                e.addSuppressed(e1);
+            }
+        }
+        closeStatement(e);
+    }
+
+    private void closeStatement(Exception e) {
+        try {
+            statement.close();
+        } catch (RuntimeException e1) {
+            e.addSuppressed(e1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FinderFactory<T> {
+        NamedArgumentFinder create(String prefix, T row);
+    }
+
+    private class CountingOutputStream extends FilterOutputStream {
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytesEncoded++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytesEncoded += len;
+        }
+    }
+}
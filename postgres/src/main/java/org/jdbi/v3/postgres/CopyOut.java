@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.Configurable;
+import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.result.ResultSetScanner;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.meta.Beta;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Exports the results of a query with the Postgres {@code COPY (query) TO STDOUT} command,
+ * which avoids the per-row overhead of fetching them through a {@link ResultSet}.
+ * <p>
+ * The rows can be written to an {@link OutputStream} as the server sends them, without decoding
+ * them:
+ *
+ * <pre>
+ * CopyOut.query(handle, "SELECT * FROM something").options("FORMAT csv, HEADER").to(out);
+ * </pre>
+ *
+ * <p>
+ * In the default text format, they can also be mapped like the results of any other statement,
+ * reading and decoding each row only when it is reached:
+ *
+ * <pre>
+ * try (Stream&lt;Something&gt; rows = CopyOut.query(handle, "SELECT * FROM something")
+ *         .mapToBean(Something.class)
+ *         .stream()) {
+ *     // ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Mapped values are parsed from their text representation when the mapper reads them, which
+ * supports strings, numbers, booleans, {@code bytea}, UUIDs and dates, times and timestamps as
+ * {@code java.sql} or {@code java.time} types. The names and types of the columns are described
+ * by preparing the query before the copy starts. The handle can't run other statements until
+ * all rows were read or the results are closed, which reads and discards the remaining rows.
+ */
+@Beta
+public class CopyOut implements ResultBearing, Configurable<CopyOut> {
+    private final Handle handle;
+    private final String query;
+    // only used for its configuration and statement context
+    private final Query statement;
+
+    private String options;
+
+    private CopyOut(Handle handle, String query) {
+        this.handle = handle;
+        this.query = query;
+        this.statement = handle.createQuery(query);
+    }
+
+    /**
+     * @param handle the handle to copy with
+     * @param query the query to copy the results of
+     * @return a copy of the query results
+     */
+    public static CopyOut query(Handle handle, String query) {
+        return new CopyOut(handle, query);
+    }
+
+    @Override
+    public ConfigRegistry getConfig() {
+        return statement.getConfig();
+    }
+
+    /**
+     * Set the options of the {@code COPY} command, e.g. {@code FORMAT csv, HEADER}. Only rows
+     * copied without options, in the default text format, can be mapped.
+     *
+     * @param options the options, as written in parentheses after {@code WITH}
+     * @return this
+     */
+    public CopyOut options(String options) {
+        this.options = options;
+        return this;
+    }
+
+    /**
+     * @return the {@code COPY} command this copy executes
+     */
+    public String getSql() {
+        return "COPY (" + query + ") TO STDOUT" + (options == null ? "" : " WITH (" + options + ")");
+    }
+
+    /**
+     * Write the copied rows to a stream as they are received.
+     *
+     * @param target the stream to write to, which is not closed
+     * @return the number of rows copied
+     */
+    public long to(OutputStream target) {
+        try {
+            return copyManager().copyOut(getSql(), target);
+        } catch (SQLException | IOException e) {
+            throw new UnableToExecuteStatementException("Exception copying rows out of " + query, e, statement.getContext());
+        }
+    }
+
+    @Override
+    public <R> R scanResultSet(ResultSetScanner<R> mapper) {
+        if (options != null) {
+            throw new IllegalStateException("Only rows copied in the default text format can be mapped");
+        }
+        return ResultBearing.of(this::copyResultSet, statement.getContext()).scanResultSet(mapper);
+    }
+
+    private ResultSet copyResultSet() {
+        StatementContext ctx = statement.getContext();
+        try {
+            // describe the columns before the copy occupies the connection
+            CopyResultSet columns;
+            try (PreparedStatement describe = handle.getConnection().prepareStatement(query)) {
+                columns = new CopyResultSet(describe.getMetaData());
+            }
+
+            ResultSet results = columns.over(startCopy(ctx));
+            ctx.addCleanable(results::close);
+            return results;
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(e, ctx);
+        }
+    }
+
+    private org.postgresql.copy.CopyOut startCopy(StatementContext ctx) throws SQLException {
+        org.postgresql.copy.CopyOut copy = copyManager().copyOut(getSql());
+        // a cancel request races with the server, so rows left unread are discarded instead
+        ctx.addCleanable(() -> {
+            boolean more = copy.isActive();
+            while (more) {
+                more = copy.readFromCopy() != null && copy.isActive();
+            }
+        });
+        return copy;
+    }
+
+    private CopyManager copyManager() throws SQLException {
+        return handle.getConnection().unwrap(PGConnection.class).getCopyAPI();
+    }
+}
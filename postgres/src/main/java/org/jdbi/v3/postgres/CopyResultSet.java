@@ -0,0 +1,357 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.jdbi.v3.lib.internal.com_google_guava.guava.v21_0.Reflection;
+import org.postgresql.copy.CopyOut;
+
+/**
+ * A forward only {@link ResultSet} over the rows of a {@code COPY ... TO STDOUT} in the text
+ * format. Each row is read from the copy only when it is reached, and values are parsed from
+ * their text representation when they are read.
+ */
+class CopyResultSet {
+    private final String[] labels;
+    private final int[] types;
+    private final String[] typeNames;
+    private final String[] row;
+    private CopyOut copy;
+    private boolean wasNull;
+    private boolean closed;
+
+    /**
+     * @param columns the columns of the copied rows, which are read before the constructor returns
+     * @throws SQLException if the columns can't be read
+     */
+    CopyResultSet(ResultSetMetaData columns) throws SQLException {
+        int count = columns.getColumnCount();
+        this.labels = new String[count];
+        this.types = new int[count];
+        this.typeNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = columns.getColumnLabel(i + 1);
+            types[i] = columns.getColumnType(i + 1);
+            typeNames[i] = columns.getColumnTypeName(i + 1);
+        }
+        this.row = new String[count];
+    }
+
+    /**
+     * @param copy a copy out in the text format
+     * @return a result set of the copied rows
+     */
+    ResultSet over(CopyOut copy) {
+        this.copy = copy;
+        return proxy(ResultSet.class, this::invokeResultSet);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return Reflection.newProxy(type,
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return "CopyResultSet";
+                    }
+                }
+                return handler.invoke(method, args == null ? new Object[0] : args);
+            });
+    }
+
+    private Object invokeResultSet(Method method, Object[] args) throws SQLException {
+        String name = method.getName();
+        switch (name) {
+            case "next":
+                return next();
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "wasNull":
+                return wasNull;
+            case "findColumn":
+                return findColumn((String) args[0]);
+            case "getMetaData":
+                return proxy(ResultSetMetaData.class, this::invokeMetaData);
+            case "getType":
+                return ResultSet.TYPE_FORWARD_ONLY;
+            case "getConcurrency":
+                return ResultSet.CONCUR_READ_ONLY;
+            case "getWarnings":
+            case "getStatement":
+            case "clearWarnings":
+            case "setFetchSize":
+                return null;
+            case "getFetchSize":
+                return 0;
+            default:
+                break;
+        }
+
+        boolean typed = args.length == 2 && args[1] instanceof Class;
+        if (name.startsWith("get") && (args.length == 1 || typed)) {
+            int column = args[0] instanceof String ? findColumn((String) args[0]) : (Integer) args[0];
+            Class<?> type = typed ? (Class<?>) args[1] : method.getReturnType();
+            if (type == Object.class) {
+                type = objectType(column);
+            }
+            return decode(field(column), type);
+        }
+
+        throw new SQLFeatureNotSupportedException(name + " is not supported by results of COPY");
+    }
+
+    private Object invokeMetaData(Method method, Object[] args) throws SQLException {
+        switch (method.getName()) {
+            case "getColumnCount":
+                return labels.length;
+            case "getColumnLabel":
+            case "getColumnName":
+                return labels[index((Integer) args[0])];
+            case "getColumnType":
+                return types[index((Integer) args[0])];
+            case "getColumnTypeName":
+                return typeNames[index((Integer) args[0])];
+            default:
+                throw new SQLFeatureNotSupportedException(method.getName() + " is not supported by results of COPY");
+        }
+    }
+
+    private boolean next() throws SQLException {
+        if (closed) {
+            throw new SQLException("Result set is closed");
+        }
+        byte[] data = copy.readFromCopy();
+        if (data == null) {
+            return false;
+        }
+        parse(new String(data, StandardCharsets.UTF_8));
+        return true;
+    }
+
+    /**
+     * Splits a row at its tabs, and undoes the escaping of the text format.
+     */
+    private void parse(String line) throws SQLException {
+        StringBuilder field = new StringBuilder();
+        int column = 0;
+        int start = 0;
+        int end = line.endsWith("\n") ? line.length() - 1 : line.length();
+        for (int i = 0; i <= end; i++) {
+            char c = i < end ? line.charAt(i) : '\t';
+            if (c == '\t') {
+                if (column == row.length) {
+                    throw new SQLException("Copied row has more than " + row.length + " columns");
+                }
+                boolean isNull = i - start == 2 && line.startsWith("\\N", start);
+                row[column++] = isNull ? null : field.toString();
+                field.setLength(0);
+                start = i + 1;
+            } else if (c == '\\' && i + 1 < end) {
+                char escaped = line.charAt(++i);
+                switch (escaped) {
+                    case 'b':
+                        field.append('\b');
+                        break;
+                    case 'f':
+                        field.append('\f');
+                        break;
+                    case 'n':
+                        field.append('\n');
+                        break;
+                    case 'r':
+                        field.append('\r');
+                        break;
+                    case 't':
+                        field.append('\t');
+                        break;
+                    case 'v':
+                        field.append('\u000b');
+                        break;
+                    default:
+                        field.append(escaped);
+                        break;
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        if (column != row.length) {
+            throw new SQLException("Copied row has " + column + " instead of " + row.length + " columns");
+        }
+    }
+
+    private int findColumn(String label) throws SQLException {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("No column labeled " + label);
+    }
+
+    private int index(int column) throws SQLException {
+        if (column < 1 || column > labels.length) {
+            throw new SQLException("Column index " + column + " out of range");
+        }
+        return column - 1;
+    }
+
+    private String field(int column) throws SQLException {
+        String value = row[index(column)];
+        wasNull = value == null;
+        return value;
+    }
+
+    private Class<?> objectType(int column) throws SQLException {
+        switch (types[index(column)]) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return Boolean.class;
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.class;
+            case Types.BIGINT:
+                return Long.class;
+            case Types.REAL:
+                return Float.class;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.class;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return byte[].class;
+            default:
+                return "uuid".equals(typeNames[column - 1]) ? UUID.class : String.class;
+        }
+    }
+
+    private static Object decode(String text, Class<?> type) throws SQLException {
+        if (text == null) {
+            if (type == boolean.class) {
+                return false;
+            }
+            return type.isPrimitive() ? decode("0", type) : null;
+        }
+
+        try {
+            if (type == String.class) {
+                return text;
+            } else if (type == int.class || type == Integer.class) {
+                return Integer.valueOf(text);
+            } else if (type == long.class || type == Long.class) {
+                return Long.valueOf(text);
+            } else if (type == short.class || type == Short.class) {
+                return Short.valueOf(text);
+            } else if (type == byte.class || type == Byte.class) {
+                return Byte.valueOf(text);
+            } else if (type == double.class || type == Double.class) {
+                return Double.valueOf(text);
+            } else if (type == float.class || type == Float.class) {
+                return Float.valueOf(text);
+            } else if (type == boolean.class || type == Boolean.class) {
+                return "t".equals(text) || "true".equals(text);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(text);
+            } else if (type == byte[].class) {
+                return decodeBytes(text);
+            } else if (type == UUID.class) {
+                return UUID.fromString(text);
+            } else if (type == LocalDate.class || type == Date.class) {
+                LocalDate date = LocalDate.parse(text);
+                return type == Date.class ? Date.valueOf(date) : date;
+            } else if (type == LocalTime.class || type == Time.class) {
+                LocalTime time = LocalTime.parse(text);
+                return type == Time.class ? Time.valueOf(time) : time;
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(text.replace(' ', 'T'));
+            } else if (type == OffsetDateTime.class) {
+                // like the driver, in UTC rather than the offset of the session
+                return parseOffsetDateTime(text).withOffsetSameInstant(ZoneOffset.UTC);
+            } else if (type == Instant.class) {
+                return parseOffsetDateTime(text).toInstant();
+            } else if (type == Timestamp.class) {
+                return hasOffset(text)
+                    ? Timestamp.from(parseOffsetDateTime(text).toInstant())
+                    : Timestamp.valueOf(text.length() == "yyyy-mm-dd".length() ? text + " 00:00:00" : text);
+            }
+        } catch (RuntimeException e) {
+            throw new SQLException("Can't decode '" + text + "' as " + type.getName(), e);
+        }
+        throw new SQLFeatureNotSupportedException("Can't decode values of COPY as " + type.getName());
+    }
+
+    private static byte[] decodeBytes(String text) {
+        if (!text.startsWith("\\x")) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[(text.length() - 2) / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(text.substring(2 + i * 2, 4 + i * 2), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * Postgres prints timestamps with time zone like {@code 2018-05-06 05:08:09.5+00}.
+     */
+    private static boolean hasOffset(String text) {
+        return Math.max(text.lastIndexOf('+'), text.lastIndexOf('-')) > "yyyy-mm-dd".length();
+    }
+
+    private static OffsetDateTime parseOffsetDateTime(String text) {
+        int sign = Math.max(text.lastIndexOf('+'), text.lastIndexOf('-'));
+        return LocalDateTime.parse(text.substring(0, sign).replace(' ', 'T'))
+            .atOffset(ZoneOffset.of(text.substring(sign)));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws SQLException;
+    }
+}
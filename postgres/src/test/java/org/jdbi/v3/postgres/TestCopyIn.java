@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import com.google.common.collect.ImmutableMap;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+import org.jdbi.v3.testing.JdbiRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCopyIn {
+    @ClassRule
+    public static JdbiRule db = PostgresDbRule.rule();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = db.getHandle();
+        h.useTransaction(th -> {
+            th.execute("DROP TABLE IF EXISTS something");
+            th.execute("DROP TABLE IF EXISTS batched");
+            th.execute("DROP TABLE IF EXISTS kinds");
+            th.execute("CREATE TABLE something (id integer primary key, name varchar)");
+            th.execute("CREATE TABLE batched (id integer primary key, name varchar)");
+            th.execute("CREATE TABLE kinds (b boolean, s smallint, l bigint, d double precision, n numeric, "
+                + "u uuid, bytes bytea, day date, local timestamp, instant timestamptz, t text)");
+        });
+    }
+
+    @Test
+    public void testBeansMatchPreparedBatch() {
+        List<Something> things = IntStream.range(0, 1000)
+            .mapToObj(i -> new Something(i, i % 10 == 0 ? null : "name\t" + i + "\\\n"))
+            .collect(Collectors.toList());
+
+        CopyIn copy = CopyIn.into(h, "something", "id", "name").bufferSize(1024);
+        assertThat(copy.beans(things)).isEqualTo(1000);
+        assertThat(copy.getRowsEncoded()).isEqualTo(1000);
+        assertThat(copy.getBytesEncoded()).isPositive();
+
+        PreparedBatch batch = h.prepareBatch("INSERT INTO batched (id, name) VALUES (:id, :name)");
+        things.forEach(thing -> batch.bindBean(thing).add());
+        batch.execute();
+
+        assertThat(h.createQuery("SELECT id, name FROM something ORDER BY id").mapToMap().list())
+            .isEqualTo(h.createQuery("SELECT id, name FROM batched ORDER BY id").mapToMap().list());
+    }
+
+    @Test
+    public void testMapsAndTuples() {
+        CopyIn.into(h, "something", "id", "name")
+            .maps(Arrays.asList(ImmutableMap.of("id", 1, "name", "one"), ImmutableMap.of("id", 2, "name", "two")));
+        CopyIn.into(h, "something", "id", "name")
+            .tuples(IntStream.range(3, 5).mapToObj(i -> new Object[] {i, "tuple"}));
+
+        assertThat(h.createQuery("SELECT name FROM something ORDER BY id").mapTo(String.class).list())
+            .containsExactly("one", "two", "tuple", "tuple");
+    }
+
+    @Test
+    public void testTextAndBinaryFormats() {
+        Object[] values = {
+            true, (short) 7, 1L << 40, 2.5, new BigDecimal("-12345.0067"),
+            UUID.randomUUID(), new byte[] {0, 1, (byte) 0xff}, LocalDate.of(1999, 12, 31),
+            LocalDateTime.of(2018, 5, 6, 7, 8, 9, 123_456_000),
+            OffsetDateTime.of(2018, 5, 6, 7, 8, 9, 0, ZoneOffset.ofHours(2)), "text"
+        };
+        String[] columns = {"b", "s", "l", "d", "n", "u", "bytes", "day", "local", "instant", "t"};
+
+        CopyIn.into(h, "kinds", columns).tuples(singletonList(values));
+        CopyIn.into(h, "kinds", columns).binary().tuples(singletonList(values));
+        CopyIn.into(h, "kinds", columns).binary().tuples(singletonList(new Object[columns.length]));
+
+        List<Map<String, Object>> rows = h.createQuery("SELECT b, s, l, d, n, u, encode(bytes, 'hex') AS bytes, "
+            + "day, local, instant, t FROM kinds").mapToMap().list();
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(1)).isEqualTo(rows.get(0));
+        assertThat(rows.get(0).get("n")).isEqualTo(new BigDecimal("-12345.0067"));
+        assertThat(rows.get(0).get("bytes")).isEqualTo("0001ff");
+        assertThat(rows.get(2).values()).containsOnlyNulls();
+    }
+
+    @Test
+    public void testTimesOutsideUtc() {
+        Instant instant = Instant.parse("2018-05-06T05:08:09.123456Z");
+        LocalDateTime local = LocalDateTime.of(2018, 5, 6, 7, 8, 9, 123_456_000);
+        String[] columns = {"instant", "local"};
+
+        TimeZone zone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+        try {
+            CopyIn.into(h, "kinds", columns).tuples(singletonList(new Object[] {instant, local}));
+            CopyIn.into(h, "kinds", columns).binary().tuples(singletonList(new Object[] {instant, local}));
+            CopyIn.into(h, "kinds", columns).binary()
+                .maps(singletonList(ImmutableMap.of("instant", instant.atZone(ZoneId.of("Europe/Paris")), "local", local)));
+            CopyIn.into(h, "kinds", columns).binary()
+                .tuples(singletonList(new Object[] {instant.atOffset(ZoneOffset.ofHours(-3)), local}));
+        } finally {
+            TimeZone.setDefault(zone);
+        }
+
+        assertThat(h.createQuery("SELECT to_char(instant AT TIME ZONE 'UTC', 'YYYY-MM-DD HH24:MI:SS.US') "
+                + "|| ' ' || to_char(local, 'YYYY-MM-DD HH24:MI:SS.US') FROM kinds").mapTo(String.class).list())
+            .hasSize(4)
+            .containsOnly("2018-05-06 05:08:09.123456 2018-05-06 07:08:09.123456");
+    }
+
+    @Test
+    public void testClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        CopyIn.into(h, "something", "id", "name")
+            .tuples(Stream.of(new Object[] {1, "one"}, new Object[] {2, "two"}).onClose(() -> closed.set(true)));
+
+        assertThat(closed).isTrue();
+        assertThat(h.createQuery("SELECT count(*) FROM something").mapTo(int.class).findOnly()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFailureCancelsCopy() {
+        List<Map<String, Object>> rows = Arrays.asList(ImmutableMap.of("id", 1, "name", "one"), ImmutableMap.of("id", 2));
+
+        assertThatThrownBy(() -> CopyIn.into(h, "something", "id", "name").maps(rows))
+            .isInstanceOf(UnableToCreateStatementException.class);
+
+        assertThat(h.createQuery("SELECT count(*) FROM something").mapTo(int.class).findOnly()).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.testing.JdbiRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCopyOut {
+    @ClassRule
+    public static JdbiRule db = PostgresDbRule.rule();
+
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        h = db.getHandle();
+        h.useTransaction(th -> {
+            th.execute("DROP TABLE IF EXISTS something");
+            th.execute("DROP TABLE IF EXISTS kinds");
+            th.execute("CREATE TABLE something (id integer primary key, name varchar)");
+            th.execute("CREATE TABLE kinds (b boolean, l bigint, n numeric, u uuid, bytes bytea, "
+                + "day date, local timestamp, instant timestamptz)");
+        });
+    }
+
+    @Test
+    public void testCopyToStream() {
+        h.execute("INSERT INTO something (id, name) VALUES (1, 'one'), (2, null)");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = CopyOut.query(h, "SELECT id, name FROM something ORDER BY id")
+            .options("FORMAT csv, HEADER")
+            .to(out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("id,name\n1,one\n2,\n");
+    }
+
+    @Test
+    public void testMapMatchesQuery() {
+        List<Something> things = IntStream.range(0, 1000)
+            .mapToObj(i -> new Something(i, i % 10 == 0 ? null : "name\t" + i + "\\\n"))
+            .collect(Collectors.toList());
+        CopyIn.into(h, "something", "id", "name").beans(things);
+
+        assertThat(CopyOut.query(h, "SELECT id, name FROM something ORDER BY id").mapToBean(Something.class).list())
+            .isEqualTo(things)
+            .isEqualTo(h.createQuery("SELECT id, name FROM something ORDER BY id").mapToBean(Something.class).list());
+    }
+
+    @Test
+    public void testMapTypes() {
+        UUID uuid = UUID.randomUUID();
+        h.createUpdate("INSERT INTO kinds VALUES (true, 1099511627776, -12345.0067, :u, '\\x0001ff', "
+                + "'1999-12-31', '2018-05-06 07:08:09.123456', '2018-05-06 07:08:09+02')")
+            .bind("u", uuid)
+            .execute();
+        h.execute("INSERT INTO kinds DEFAULT VALUES");
+
+        List<Map<String, Object>> rows = CopyOut.query(h, "SELECT * FROM kinds").mapToMap().list();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0))
+            .containsEntry("b", true)
+            .containsEntry("l", 1L << 40)
+            .containsEntry("n", new BigDecimal("-12345.0067"))
+            .containsEntry("u", uuid);
+        assertThat((byte[]) rows.get(0).get("bytes")).containsExactly(0, 1, 0xff);
+        assertThat(rows.get(1).values()).containsOnlyNulls();
+
+        assertThat(CopyOut.query(h, "SELECT day FROM kinds WHERE b").mapTo(LocalDate.class).findOnly())
+            .isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(CopyOut.query(h, "SELECT local FROM kinds WHERE b").mapTo(LocalDateTime.class).findOnly())
+            .isEqualTo(LocalDateTime.of(2018, 5, 6, 7, 8, 9, 123_456_000));
+        assertThat(CopyOut.query(h, "SELECT instant FROM kinds WHERE b").mapTo(OffsetDateTime.class).findOnly())
+            .isEqualTo(OffsetDateTime.of(2018, 5, 6, 5, 8, 9, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testOptionsCantBeMapped() {
+        assertThatThrownBy(() -> CopyOut.query(h, "SELECT id FROM something").options("FORMAT csv").mapTo(int.class).list())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testHandleUsableAfterEarlyClose() {
+        CopyIn.into(h, "something", "id", "name")
+            .tuples(IntStream.range(0, 10_000).mapToObj(i -> new Object[] {i, "name" + i}));
+
+        try (Stream<Integer> ids = CopyOut.query(h, "SELECT id FROM something ORDER BY id").mapTo(int.class).stream()) {
+            Iterator<Integer> it = ids.iterator();
+            assertThat(it.next()).isZero();
+            assertThat(it.next()).isEqualTo(1);
+        }
+
+        assertThat(h.createQuery("SELECT count(*) FROM something").mapTo(int.class).findOnly()).isEqualTo(10_000);
+    }
+}
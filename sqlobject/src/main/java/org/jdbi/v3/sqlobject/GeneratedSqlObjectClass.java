@@ -0,0 +1,494 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.sqlobject.internal.SqlObjectDispatcher;
+
+/**
+ * A class generated at runtime to implement a SqlObject interface. Each of its methods passes its index and its
+ * arguments straight to a {@link SqlObjectDispatcher}, so calls skip the method lookup of a
+ * {@link java.lang.reflect.Proxy} and the JIT can inline through them.
+ * <p>
+ * Only public interfaces whose methods return public types can be implemented, since the class is defined by a class
+ * loader of its own.
+ * </p>
+ */
+final class GeneratedSqlObjectClass {
+    private static final String OBJECT = "java/lang/Object";
+    private static final String DISPATCHER = SqlObjectDispatcher.class.getName().replace('.', '/');
+    private static final String DISPATCHER_FIELD = "dispatcher";
+    private static final String DISPATCH_DESCRIPTOR = "(ILjava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+    // dispatcher, index, target, arguments, arguments, argument index, two-slot argument
+    private static final int MAX_STACK = 8;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int SIPUSH = 0x11;
+    private static final int ALOAD = 0x19;
+    private static final int AASTORE = 0x53;
+    private static final int POP = 0x57;
+    private static final int DUP = 0x59;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int ANEWARRAY = 0xbd;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final Map<Class<?>, Primitive> PRIMITIVES = primitives();
+
+    private static final ClassValue<Optional<GeneratedSqlObjectClass>> CLASSES =
+        new ClassValue<Optional<GeneratedSqlObjectClass>>() {
+            @Override
+            protected Optional<GeneratedSqlObjectClass> computeValue(Class<?> sqlObjectType) {
+                List<Method> methods = dispatchedMethods(sqlObjectType);
+                return canImplement(sqlObjectType, methods)
+                    ? Optional.of(new GeneratedSqlObjectClass(sqlObjectType, methods))
+                    : Optional.empty();
+            }
+        };
+
+    private final List<Method> methods;
+    private final Function<SqlObjectDispatcher, Object> constructor;
+
+    private GeneratedSqlObjectClass(Class<?> sqlObjectType, List<Method> methods) {
+        this.methods = methods;
+
+        String className = sqlObjectType.getName() + "$$SqlObject";
+        byte[] classFile = generate(className.replace('.', '/'), sqlObjectType, methods);
+        Class<?> generated = new DefiningClassLoader(sqlObjectType.getClassLoader()).define(className, classFile);
+
+        MethodHandle newInstance = Unchecked.<Class<?>, MethodHandle>function(type ->
+                MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, SqlObjectDispatcher.class)))
+            .apply(generated)
+            .asType(MethodType.methodType(Object.class, SqlObjectDispatcher.class));
+        this.constructor = Unchecked.<SqlObjectDispatcher, Object>function(dispatcher -> (Object) newInstance.invokeExact(dispatcher));
+    }
+
+    /**
+     * Returns the generated class implementing the given SqlObject type, if it can be implemented by one.
+     *
+     * @param sqlObjectType the SqlObject type
+     * @return the generated class, or empty if the type can only be implemented by a proxy
+     */
+    static Optional<GeneratedSqlObjectClass> of(Class<?> sqlObjectType) {
+        return CLASSES.get(sqlObjectType);
+    }
+
+    /**
+     * @return the methods dispatched by the generated class, by the index it passes to the dispatcher
+     */
+    List<Method> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param dispatcher invoked by all methods of the new instance
+     * @return a new instance of the generated class
+     */
+    Object newInstance(SqlObjectDispatcher dispatcher) {
+        return constructor.apply(dispatcher);
+    }
+
+    // the Object methods a proxy dispatches, followed by the other methods of the type, one per signature
+    private static List<Method> dispatchedMethods(Class<?> sqlObjectType) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Method method : Object.class.getMethods()) {
+            String name = method.getName();
+            if ("toString".equals(name) || "equals".equals(name) || "hashCode".equals(name)) {
+                methods.put(name + methodDescriptor(method), method);
+            }
+        }
+        for (Method method : sqlObjectType.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                methods.putIfAbsent(method.getName() + methodDescriptor(method), method);
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(methods.values()));
+    }
+
+    private static boolean canImplement(Class<?> sqlObjectType, List<Method> methods) {
+        if (sqlObjectType.getClassLoader() == null || !isPublic(sqlObjectType)) {
+            return false;
+        }
+        for (Method method : methods) {
+            if (!isPublic(method.getReturnType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        if (elementType.isPrimitive()) {
+            return true;
+        }
+        for (Class<?> c = elementType; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] generate(String className, Class<?> sqlObjectType, List<Method> methods) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int implemented = pool.classRef(internalName(sqlObjectType));
+        int dispatcherName = pool.utf8(DISPATCHER_FIELD);
+        int dispatcherDescriptor = pool.utf8(descriptor(SqlObjectDispatcher.class));
+        int dispatcherField = pool.fieldRef(className, DISPATCHER_FIELD, descriptor(SqlObjectDispatcher.class));
+        int dispatch = pool.interfaceMethodRef(DISPATCHER, "invoke", DISPATCH_DESCRIPTOR);
+        int objectArray = pool.classRef(OBJECT);
+        int code = pool.utf8("Code");
+
+        List<byte[]> methodInfos = new ArrayList<>();
+        methodInfos.add(constructor(pool, code, superClass, dispatcherField));
+        for (int i = 0; i < methods.size(); i++) {
+            methodInfos.add(dispatchingMethod(pool, code, methods.get(i), i, dispatcherField, dispatch, objectArray));
+        }
+
+        return write(out -> {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(implemented);
+
+            out.writeShort(1);
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(dispatcherName);
+            out.writeShort(dispatcherDescriptor);
+            out.writeShort(0);
+
+            out.writeShort(methodInfos.size());
+            for (byte[] methodInfo : methodInfos) {
+                out.write(methodInfo);
+            }
+            out.writeShort(0);
+        });
+    }
+
+    // public Generated(SqlObjectDispatcher dispatcher) { super(); this.dispatcher = dispatcher; }
+    private static byte[] constructor(ConstantPool pool, int code, int superClass, int dispatcherField) {
+        int objectConstructor = pool.methodRef(OBJECT, "<init>", "()V");
+        byte[] body = write(out -> {
+            out.writeByte(ALOAD_0);
+            out.writeByte(INVOKESPECIAL);
+            out.writeShort(objectConstructor);
+            out.writeByte(ALOAD_0);
+            out.writeByte(ALOAD_1);
+            out.writeByte(PUTFIELD);
+            out.writeShort(dispatcherField);
+            out.writeByte(RETURN);
+        });
+        return methodInfo(pool, code, ACC_PUBLIC, "<init>", "(" + descriptor(SqlObjectDispatcher.class) + ")V", 2, 2, body);
+    }
+
+    // public R method(A a, B b) { return (R) dispatcher.invoke(index, this, new Object[] {a, b}); }
+    private static byte[] dispatchingMethod(ConstantPool pool, int code, Method method, int index,
+                                            int dispatcherField, int dispatch, int objectArray) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        int[] locals = {1};
+        byte[] body = write(out -> {
+            out.writeByte(ALOAD_0);
+            out.writeByte(GETFIELD);
+            out.writeShort(dispatcherField);
+            out.writeByte(SIPUSH);
+            out.writeShort(index);
+            out.writeByte(ALOAD_0);
+            out.writeByte(SIPUSH);
+            out.writeShort(parameterTypes.length);
+            out.writeByte(ANEWARRAY);
+            out.writeShort(objectArray);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                out.writeByte(DUP);
+                out.writeByte(SIPUSH);
+                out.writeShort(i);
+                Primitive primitive = PRIMITIVES.get(parameterTypes[i]);
+                if (primitive == null) {
+                    out.writeByte(ALOAD);
+                    out.writeByte(locals[0]++);
+                } else {
+                    out.writeByte(primitive.load);
+                    out.writeByte(locals[0]);
+                    locals[0] += primitive.slots;
+                    out.writeByte(INVOKESTATIC);
+                    out.writeShort(pool.methodRef(primitive.wrapper, "valueOf",
+                        "(" + primitive.descriptor + ")L" + primitive.wrapper + ";"));
+                }
+                out.writeByte(AASTORE);
+            }
+            out.writeByte(INVOKEINTERFACE);
+            out.writeShort(dispatch);
+            out.writeByte(4);
+            out.writeByte(0);
+
+            Class<?> returnType = method.getReturnType();
+            Primitive primitive = PRIMITIVES.get(returnType);
+            if (returnType == void.class) {
+                out.writeByte(POP);
+                out.writeByte(RETURN);
+            } else if (primitive == null) {
+                if (returnType != Object.class) {
+                    out.writeByte(CHECKCAST);
+                    out.writeShort(pool.classRef(internalName(returnType)));
+                }
+                out.writeByte(ARETURN);
+            } else {
+                out.writeByte(CHECKCAST);
+                out.writeShort(pool.classRef(primitive.wrapper));
+                out.writeByte(INVOKEVIRTUAL);
+                out.writeShort(pool.methodRef(primitive.wrapper, primitive.unbox, "()" + primitive.descriptor));
+                out.writeByte(primitive.ret);
+            }
+        });
+        return methodInfo(pool, code, ACC_PUBLIC | ACC_FINAL, method.getName(), methodDescriptor(method),
+            MAX_STACK, locals[0], body);
+    }
+
+    private static byte[] methodInfo(ConstantPool pool, int code, int access, String name, String descriptor,
+                                     int maxStack, int maxLocals, byte[] body) {
+        int nameIndex = pool.utf8(name);
+        int descriptorIndex = pool.utf8(descriptor);
+        return write(out -> {
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.writeShort(code);
+            out.writeInt(12 + body.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeShort(0);
+            out.writeShort(0);
+        });
+    }
+
+    private static String methodDescriptor(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            descriptor.append(descriptor(parameterType));
+        }
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type == void.class) {
+            return "V";
+        }
+        Primitive primitive = PRIMITIVES.get(type);
+        if (primitive != null) {
+            return primitive.descriptor;
+        }
+        return type.isArray() ? internalName(type) : "L" + internalName(type) + ";";
+    }
+
+    // array names are descriptors already
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static byte[] write(ClassFileWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Map<Class<?>, Primitive> primitives() {
+        Map<Class<?>, Primitive> primitives = new HashMap<>();
+        primitives.put(boolean.class, new Primitive("Z", "java/lang/Boolean", "booleanValue", 0x15, 0xac, 1));
+        primitives.put(byte.class, new Primitive("B", "java/lang/Byte", "byteValue", 0x15, 0xac, 1));
+        primitives.put(char.class, new Primitive("C", "java/lang/Character", "charValue", 0x15, 0xac, 1));
+        primitives.put(short.class, new Primitive("S", "java/lang/Short", "shortValue", 0x15, 0xac, 1));
+        primitives.put(int.class, new Primitive("I", "java/lang/Integer", "intValue", 0x15, 0xac, 1));
+        primitives.put(long.class, new Primitive("J", "java/lang/Long", "longValue", 0x16, 0xad, 2));
+        primitives.put(float.class, new Primitive("F", "java/lang/Float", "floatValue", 0x17, 0xae, 1));
+        primitives.put(double.class, new Primitive("D", "java/lang/Double", "doubleValue", 0x18, 0xaf, 2));
+        return Collections.unmodifiableMap(primitives);
+    }
+
+    @FunctionalInterface
+    private interface ClassFileWriter {
+        void write(DataOutputStream data) throws IOException;
+    }
+
+    /**
+     * How a primitive type is passed, boxed, unboxed and returned.
+     */
+    private static final class Primitive {
+        private final String descriptor;
+        private final String wrapper;
+        private final String unbox;
+        private final int load;
+        private final int ret;
+        private final int slots;
+
+        Primitive(String descriptor, String wrapper, String unbox, int load, int ret, int slots) {
+            this.descriptor = descriptor;
+            this.wrapper = wrapper;
+            this.unbox = unbox;
+            this.load = load;
+            this.ret = ret;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * The constant pool of the generated class, adding each constant once.
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int INTERFACE_METHOD_REF = 11;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int count = 1;
+
+        int utf8(String value) {
+            return add("U" + value, pool -> {
+                pool.writeByte(UTF8);
+                pool.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return add("C" + internalName, pool -> {
+                pool.writeByte(CLASS);
+                pool.writeShort(name);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(METHOD_REF, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(INTERFACE_METHOD_REF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = add("N" + name + ' ' + descriptor, pool -> {
+                pool.writeByte(NAME_AND_TYPE);
+                pool.writeShort(nameIndex);
+                pool.writeShort(descriptorIndex);
+            });
+            return add(tag + owner + '.' + name + ' ' + descriptor, pool -> {
+                pool.writeByte(tag);
+                pool.writeShort(ownerClass);
+                pool.writeShort(nameAndType);
+            });
+        }
+
+        private int add(String key, ClassFileWriter entry) {
+            Integer existing = indexes.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            try {
+                entry.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int index = count++;
+            indexes.put(key, index);
+            return index;
+        }
+
+        void writeTo(DataOutputStream classFile) throws IOException {
+            out.flush();
+            classFile.writeShort(count);
+            bytes.writeTo(classFile);
+        }
+    }
+
+    /**
+     * Defines a generated class, resolving the dispatcher it calls from this library and everything else like the
+     * SqlObject type it implements.
+     */
+    private static final class DefiningClassLoader extends ClassLoader {
+        DefiningClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (SqlObjectDispatcher.class.getName().equals(name)) {
+                return SqlObjectDispatcher.class;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+}
@@ -19,12 +19,18 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.WeakHashMap;
-import java.util.function.BiConsumer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -33,6 +39,8 @@ import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
+import org.jdbi.v3.sqlobject.internal.SqlObjectConfigurations;
+import org.jdbi.v3.sqlobject.internal.SqlObjectDispatcher;
 
 import static java.util.Collections.synchronizedMap;
 
@@ -43,6 +51,7 @@ public class SqlObjectFactory implements ExtensionFactory {
     private static final Object[] NO_ARGS = new Object[0];
 
     private final Map<Class<?>, Map<Method, Handler>> handlersCache = synchronizedMap(new WeakHashMap<>());
+    private final Map<Class<?>, ConfigurerPlan> configurerPlanCache = synchronizedMap(new WeakHashMap<>());
     private final Map<Class<? extends Configurer>, Configurer> configurers = synchronizedMap(new WeakHashMap<>());
 
     SqlObjectFactory() {}
@@ -85,21 +94,34 @@ public class SqlObjectFactory implements ExtensionFactory {
                 handle.getConfig(Handlers.class),
                 handle.getConfig(HandlerDecorators.class));
 
-        ConfigRegistry instanceConfig = handle.getConfig().createCopy();
+        ConfigurerPlan configurerPlan = configurerPlanCache.computeIfAbsent(extensionType, this::buildConfigurerPlan);
 
-        for (Class<?> iface : extensionType.getInterfaces()) {
-            forEachConfigurer(iface, (configurer, annotation) ->
-                configurer.configureForType(instanceConfig, annotation, extensionType));
+        ConfigRegistry handleConfig = handle.getConfig();
+        SqlObjectConfigurations configurations = handleConfig.get(SqlObjectConfigurations.class);
+        ConfigRegistry instanceConfig = configurations.forType(extensionType, type -> {
+            ConfigRegistry typeConfig = handleConfig.createCopy();
+            configurerPlan.configureForType(typeConfig, type);
+            return typeConfig;
+        });
+
+        Function<Method, MethodInvoker> invokerFactory = method -> new MethodInvoker(handlers.get(method),
+                new ExtensionMethod(extensionType, method),
+                configurations.forMethod(extensionType, method,
+                    m -> configurerPlan.configureForMethod(instanceConfig, extensionType, m)));
+
+        if (instanceConfig.get(SqlObjects.class).isGeneratedClasses()) {
+            Optional<GeneratedSqlObjectClass> generated = GeneratedSqlObjectClass.of(extensionType);
+            if (generated.isPresent()) {
+                List<Method> methods = generated.get().getMethods();
+                return extensionType.cast(generated.get().newInstance(createDispatcher(methods, invokerFactory, handle)));
+            }
         }
-        forEachConfigurer(extensionType, (configurer, annotation) ->
-                configurer.configureForType(instanceConfig, annotation, extensionType));
 
-        InvocationHandler invocationHandler = createInvocationHandler(extensionType, instanceConfig, handlers, handle);
         return extensionType.cast(
                 Proxy.newProxyInstance(
                         extensionType.getClassLoader(),
                         new Class[] {extensionType},
-                        invocationHandler));
+                        createInvocationHandler(invokerFactory, handle)));
     }
 
     private Map<Method, Handler> methodHandlersFor(Class<?> sqlObjectType, Handlers registry, HandlerDecorators decorators) {
@@ -148,31 +170,62 @@ public class SqlObjectFactory implements ExtensionFactory {
         }
     }
 
-    private InvocationHandler createInvocationHandler(Class<?> sqlObjectType,
-                                                      ConfigRegistry instanceConfig,
-                                                      Map<Method, Handler> handlers,
-                                                      HandleSupplier handle) {
+    private static InvocationHandler createInvocationHandler(Function<Method, MethodInvoker> invokerFactory,
+                                                             HandleSupplier handle) {
+        Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+
         return (proxy, method, args) -> {
-            Handler handler = handlers.get(method);
+            MethodInvoker invoker = invokers.get(method);
+            if (invoker == null) {
+                invoker = invokerFactory.apply(method);
+                invokers.put(method, invoker);
+            }
+            return invoker.invoke(proxy, args == null ? NO_ARGS : args, handle);
+        };
+    }
 
-            ConfigRegistry methodConfig = instanceConfig.createCopy();
-            forEachConfigurer(method, (configurer, annotation) ->
-                    configurer.configureForMethod(methodConfig, annotation, sqlObjectType, method));
+    private static SqlObjectDispatcher createDispatcher(List<Method> methods,
+                                                        Function<Method, MethodInvoker> invokerFactory,
+                                                        HandleSupplier handle) {
+        AtomicReferenceArray<MethodInvoker> invokers = new AtomicReferenceArray<>(methods.size());
 
-            return handle.invokeInContext(new ExtensionMethod(sqlObjectType, method), methodConfig,
-                    () -> handler.invoke(proxy, args == null ? NO_ARGS : args, handle));
+        return (index, target, args) -> {
+            MethodInvoker invoker = invokers.get(index);
+            if (invoker == null) {
+                invoker = invokerFactory.apply(methods.get(index));
+                invokers.set(index, invoker);
+            }
+            return invoker.invokeDeclared(target, args, handle);
         };
     }
 
-    private void forEachConfigurer(AnnotatedElement element, BiConsumer<Configurer, Annotation> consumer) {
-        Stream.of(element.getAnnotations())
-                .filter(a -> a.annotationType().isAnnotationPresent(ConfiguringAnnotation.class))
-                .forEach(a -> {
-                    ConfiguringAnnotation meta = a.annotationType()
-                            .getAnnotation(ConfiguringAnnotation.class);
+    private ConfigurerPlan buildConfigurerPlan(Class<?> sqlObjectType) {
+        List<ConfiguringElement> typeConfigurers = new ArrayList<>();
+        for (Class<?> iface : sqlObjectType.getInterfaces()) {
+            typeConfigurers.addAll(findConfigurers(iface));
+        }
+        typeConfigurers.addAll(findConfigurers(sqlObjectType));
+
+        Map<Method, List<ConfiguringElement>> methodConfigurers = new HashMap<>();
+        for (Method method : sqlObjectType.getMethods()) {
+            List<ConfiguringElement> configurers = findConfigurers(method);
+            if (!configurers.isEmpty()) {
+                methodConfigurers.put(method, configurers);
+            }
+        }
 
-                    consumer.accept(getConfigurer(meta.value()), a);
-                });
+        return new ConfigurerPlan(typeConfigurers, methodConfigurers);
+    }
+
+    private List<ConfiguringElement> findConfigurers(AnnotatedElement element) {
+        List<ConfiguringElement> configurers = new ArrayList<>();
+        for (Annotation a : element.getAnnotations()) {
+            ConfiguringAnnotation meta = a.annotationType().getAnnotation(ConfiguringAnnotation.class);
+            if (meta != null) {
+                configurers.add(new ConfiguringElement(getConfigurer(meta.value()), a));
+            }
+        }
+        return configurers;
     }
 
     private Configurer getConfigurer(Class<? extends Configurer> factoryClass) {
@@ -184,4 +237,88 @@ public class SqlObjectFactory implements ExtensionFactory {
             }
         });
     }
+
+    /**
+     * The configuring annotations of a SqlObject type and its methods, resolved once per type.
+     */
+    private static final class ConfigurerPlan {
+        private final List<ConfiguringElement> typeConfigurers;
+        private final Map<Method, List<ConfiguringElement>> methodConfigurers;
+
+        ConfigurerPlan(List<ConfiguringElement> typeConfigurers, Map<Method, List<ConfiguringElement>> methodConfigurers) {
+            this.typeConfigurers = typeConfigurers;
+            this.methodConfigurers = methodConfigurers;
+        }
+
+        void configureForType(ConfigRegistry instanceConfig, Class<?> sqlObjectType) {
+            for (ConfiguringElement element : typeConfigurers) {
+                element.configurer.configureForType(instanceConfig, element.annotation, sqlObjectType);
+            }
+        }
+
+        ConfigRegistry configureForMethod(ConfigRegistry instanceConfig, Class<?> sqlObjectType, Method method) {
+            List<ConfiguringElement> configurers = methodConfigurers.get(method);
+            if (configurers == null) {
+                return instanceConfig;
+            }
+
+            ConfigRegistry methodConfig = instanceConfig.createCopy();
+            for (ConfiguringElement element : configurers) {
+                element.configurer.configureForMethod(methodConfig, element.annotation, sqlObjectType, method);
+            }
+            return methodConfig;
+        }
+    }
+
+    /**
+     * Everything needed to invoke one method of an attached SqlObject, resolved on its first invocation.
+     */
+    private static final class MethodInvoker {
+        private final Handler handler;
+        private final ExtensionMethod extensionMethod;
+        // only ever copied, so it can be shared by all invocations
+        private final ConfigRegistry methodConfig;
+
+        MethodInvoker(Handler handler, ExtensionMethod extensionMethod, ConfigRegistry methodConfig) {
+            this.handler = handler;
+            this.extensionMethod = extensionMethod;
+            this.methodConfig = methodConfig;
+        }
+
+        Object invoke(Object proxy, Object[] args, HandleSupplier handle) throws Exception {
+            return handle.invokeInContext(extensionMethod, methodConfig.createCopy(),
+                    () -> handler.invoke(proxy, args, handle));
+        }
+
+        // wraps checked exceptions the method does not declare, like a proxy does
+        Object invokeDeclared(Object target, Object[] args, HandleSupplier handle) throws Exception {
+            try {
+                return invoke(target, args, handle);
+            } catch (Exception e) {
+                throw isDeclared(e) ? e : new UndeclaredThrowableException(e);
+            }
+        }
+
+        private boolean isDeclared(Exception e) {
+            if (e instanceof RuntimeException) {
+                return true;
+            }
+            for (Class<?> declared : extensionMethod.getMethod().getExceptionTypes()) {
+                if (declared.isInstance(e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class ConfiguringElement {
+        private final Configurer configurer;
+        private final Annotation annotation;
+
+        ConfiguringElement(Configurer configurer, Annotation annotation) {
+            this.configurer = configurer;
+            this.annotation = annotation;
+        }
+    }
 }
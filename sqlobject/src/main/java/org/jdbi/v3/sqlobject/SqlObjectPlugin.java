@@ -15,6 +15,7 @@ package org.jdbi.v3.sqlobject;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.sqlobject.internal.SqlObjectConfigurations;
 
 /**
  * Plugin that installs the SqlObject extension.
@@ -23,5 +24,7 @@ public class SqlObjectPlugin implements JdbiPlugin {
     @Override
     public void customizeJdbi(Jdbi db) {
         db.registerExtension(new SqlObjectFactory());
+        // handles opened from db copy it, and keep the configuration of their SqlObject types
+        db.getConfig(SqlObjectConfigurations.class);
     }
 }
@@ -16,6 +16,7 @@ package org.jdbi.v3.sqlobject;
 import java.util.Objects;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
 import org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator;
 import org.jdbi.v3.sqlobject.locator.SqlLocator;
@@ -28,6 +29,7 @@ import org.jdbi.v3.sqlobject.statement.ParameterCustomizerFactory;
 public class SqlObjects implements JdbiConfig<SqlObjects> {
     private SqlLocator sqlLocator;
     private ParameterCustomizerFactory defaultParameterCustomizerFactory;
+    private boolean generatedClasses;
 
     public SqlObjects() {
         sqlLocator = new AnnotationSqlLocator();
@@ -37,6 +39,7 @@ public class SqlObjects implements JdbiConfig<SqlObjects> {
     private SqlObjects(SqlObjects that) {
         sqlLocator = that.sqlLocator;
         defaultParameterCustomizerFactory = that.defaultParameterCustomizerFactory;
+        generatedClasses = that.generatedClasses;
     }
 
     /**
@@ -80,6 +83,31 @@ public class SqlObjects implements JdbiConfig<SqlObjects> {
         return this;
     }
 
+    /**
+     * Returns whether SqlObjects are implemented by generated classes instead of {@link java.lang.reflect.Proxy}
+     * instances. Disabled by default.
+     *
+     * @return true if SqlObjects are implemented by generated classes.
+     */
+    @Beta
+    public boolean isGeneratedClasses() {
+        return generatedClasses;
+    }
+
+    /**
+     * Configures SqlObject to implement each public SqlObject interface with a class generated at runtime, whose
+     * methods call their handlers directly instead of going through a {@link java.lang.reflect.Proxy}. Interfaces
+     * which are not public, or have methods returning non-public types, are still implemented by proxies.
+     *
+     * @param generatedClasses whether to implement SqlObjects by generated classes.
+     * @return this {@link SqlObjects}.
+     */
+    @Beta
+    public SqlObjects setGeneratedClasses(boolean generatedClasses) {
+        this.generatedClasses = generatedClasses;
+        return this;
+    }
+
     @Override
     public SqlObjects createCopy() {
         return new SqlObjects(this);
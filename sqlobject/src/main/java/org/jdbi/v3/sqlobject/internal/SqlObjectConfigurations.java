@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.internal;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiConfig;
+
+/**
+ * The configuration of the SqlObject types attached with the config registry holding this, and of their methods.
+ * <p>
+ * Only copied registries, such as those of handles, keep the configuration computed when a type is first attached,
+ * so SqlObjects attached to a handle see the handle configuration as it was when their type was first attached to
+ * it. The registry of a {@code Jdbi} may be reconfigured between on-demand calls, so it computes the configuration
+ * on every attach. Copies of a registry start without any.
+ * </p>
+ */
+public class SqlObjectConfigurations implements JdbiConfig<SqlObjectConfigurations> {
+    private final Map<Class<?>, ConfigRegistry> typeConfigs = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, ConfigRegistry>> methodConfigs = new ConcurrentHashMap<>();
+    private final boolean cached;
+
+    public SqlObjectConfigurations() {
+        this(false);
+    }
+
+    private SqlObjectConfigurations(boolean cached) {
+        this.cached = cached;
+    }
+
+    /**
+     * Returns the configuration of the given SqlObject type, computing it on its first use.
+     *
+     * @param sqlObjectType the SqlObject type
+     * @param configure     computes the configuration of the type
+     * @return the configuration of the type
+     */
+    public ConfigRegistry forType(Class<?> sqlObjectType, Function<Class<?>, ConfigRegistry> configure) {
+        if (!cached) {
+            return configure.apply(sqlObjectType);
+        }
+        // no computeIfAbsent: configuring a type may attach other types
+        ConfigRegistry config = typeConfigs.get(sqlObjectType);
+        if (config == null) {
+            config = configure.apply(sqlObjectType);
+            ConfigRegistry existing = typeConfigs.putIfAbsent(sqlObjectType, config);
+            if (existing != null) {
+                config = existing;
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Returns the configuration of a method of the given SqlObject type, computing it on its first use.
+     *
+     * @param sqlObjectType the SqlObject type
+     * @param method        the method
+     * @param configure     computes the configuration of the method
+     * @return the configuration of the method
+     */
+    public ConfigRegistry forMethod(Class<?> sqlObjectType, Method method, Function<Method, ConfigRegistry> configure) {
+        if (!cached) {
+            return configure.apply(method);
+        }
+        Map<Method, ConfigRegistry> configs = methodConfigs.computeIfAbsent(sqlObjectType, type -> new ConcurrentHashMap<>());
+        ConfigRegistry config = configs.get(method);
+        if (config == null) {
+            config = configure.apply(method);
+            ConfigRegistry existing = configs.putIfAbsent(method, config);
+            if (existing != null) {
+                config = existing;
+            }
+        }
+        return config;
+    }
+
+    @Override
+    public SqlObjectConfigurations createCopy() {
+        // the configurations are derived from the registry holding them
+        return new SqlObjectConfigurations(true);
+    }
+}
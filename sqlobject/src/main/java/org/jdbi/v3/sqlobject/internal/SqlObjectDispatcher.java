@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.internal;
+
+/**
+ * Invoked by the methods of generated SqlObject implementation classes, which pass the index of the
+ * invoked method along with its arguments.
+ */
+@FunctionalInterface
+public interface SqlObjectDispatcher {
+    /**
+     * Invokes a method of a SqlObject.
+     *
+     * @param method the index of the invoked method in the generated class
+     * @param target the SqlObject
+     * @param args   the method arguments
+     * @return the method result, boxed if primitive
+     * @throws Exception if the method throws one
+     */
+    Object invoke(int method, Object target, Object[] args) throws Exception;
+}
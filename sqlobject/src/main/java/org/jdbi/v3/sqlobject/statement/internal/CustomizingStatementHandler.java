@@ -22,6 +22,7 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -49,6 +50,7 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
  */
 abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements Handler {
     private final List<BoundCustomizer> statementCustomizers;
+    private final List<BoundCustomizer> parameterCustomizers;
     private final Class<?> sqlObjectType;
     private final Method method;
 
@@ -66,10 +68,9 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
             .map(a -> instantiateFactory(a).createForMethod(a, type, method))
             .map(BoundCustomizer::of);
 
-        final Stream<BoundCustomizer> parameterCustomizers = parameterCustomizers(type, method);
-
-        statementCustomizers = Stream.of(typeCustomizers, methodCustomizers, parameterCustomizers)
-            .reduce(Stream.empty(), Stream::concat)
+        statementCustomizers = concat(typeCustomizers, methodCustomizers)
+            .collect(Collectors.toList());
+        parameterCustomizers = parameterCustomizers(type, method)
             .collect(Collectors.toList());
     }
 
@@ -120,9 +121,18 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
                                                        Method method,
                                                        Parameter parameter,
                                                        Integer i) {
-        return (stmt, args) -> getDefaultParameterCustomizerFactory(stmt)
-                .createForParameter(type, method, parameter, i, getParameterType(parameter))
-                .apply(stmt, args[i]);
+        // batches apply this for every row, so keep the customizer of the last factory seen
+        AtomicReference<FactoryCustomizer> cached = new AtomicReference<>();
+        return (stmt, args) -> {
+            ParameterCustomizerFactory factory = getDefaultParameterCustomizerFactory(stmt);
+            FactoryCustomizer customizer = cached.get();
+            if (customizer == null || customizer.factory != factory) {
+                customizer = new FactoryCustomizer(factory,
+                    factory.createForParameter(type, method, parameter, i, getParameterType(parameter)));
+                cached.set(customizer);
+            }
+            customizer.customizer.apply(stmt, args[i]);
+        };
     }
 
     Type getParameterType(Parameter parameter) {
@@ -156,7 +166,26 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
+        applyStatementCustomizers(stmt, args);
+        applyParameterCustomizers(stmt, args);
+    }
+
+    /**
+     * Applies the customizers of the SQL object type and method.
+     */
+    void applyStatementCustomizers(final StatementType stmt, Object[] args) {
+        apply(statementCustomizers, stmt, args);
+    }
+
+    /**
+     * Applies the customizers of the method parameters.
+     */
+    void applyParameterCustomizers(final StatementType stmt, Object[] args) {
+        apply(parameterCustomizers, stmt, args);
+    }
+
+    private void apply(List<BoundCustomizer> customizers, StatementType stmt, Object[] args) {
+        customizers.forEach(b -> {
             try {
                 b.apply(stmt, args);
             } catch (SQLException e) {
@@ -194,6 +223,16 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
         }
     }
 
+    private static class FactoryCustomizer {
+        final ParameterCustomizerFactory factory;
+        final SqlStatementParameterCustomizer customizer;
+
+        FactoryCustomizer(ParameterCustomizerFactory factory, SqlStatementParameterCustomizer customizer) {
+            this.factory = factory;
+            this.customizer = customizer;
+        }
+    }
+
     /**
      * A {@link SqlStatementCustomizer} or {@link SqlStatementParameterCustomizer} that
      * is ready to apply.
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -32,6 +33,7 @@ import org.jdbi.v3.core.internal.IterableLike;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.Binding;
 import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
@@ -48,6 +50,7 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
     private final SqlBatchHandler.ChunkSizeFunction batchChunkSize;
     private final Function<PreparedBatch, ResultIterator<?>> batchIntermediate;
     private final ResultReturner magic;
+    private final boolean returnsGeneratedKeys;
 
     public SqlBatchHandler(Class<?> sqlObjectType, Method method) {
         super(sqlObjectType, method);
@@ -59,6 +62,7 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
         this.sqlBatch = method.getAnnotation(SqlBatch.class);
         this.batchChunkSize = determineBatchChunkSize(sqlObjectType, method);
         final GetGeneratedKeys getGeneratedKeys = method.getAnnotation(GetGeneratedKeys.class);
+        this.returnsGeneratedKeys = getGeneratedKeys != null;
 
         if (getGeneratedKeys == null) {
             if (!returnTypeIsValid(method.getReturnType())) {
@@ -173,6 +177,12 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
         final int chunkSize = batchChunkSize.call(args);
         final Iterator<Object[]> batchArgs = zipArgs(getMethod(), args);
 
+        if (!returnsGeneratedKeys && batchArgs.hasNext()) {
+            // update counts are consumed right away, so one batch can flush every chunk
+            ResultIterator<?> result = executeFlushing(handle, sql, args, chunkSize, batchArgs);
+            return magic.mappedResult(ResultIterable.of(result), result.getContext());
+        }
+
         ResultIterator<Object> result;
 
         if (batchArgs.hasNext()) {
@@ -198,12 +208,11 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
                         return false;
                     }
                     // execute a single chunk and buffer
-                    PreparedBatch batch = handle.prepareBatch(sql);
+                    BatchParts parts = new BatchParts(handle.prepareBatch(sql), args);
                     for (int i = 0; i < chunkSize && batchArgs.hasNext(); i++) {
-                        applyCustomizers(batch, batchArgs.next());
-                        batch.add();
+                        parts.add(batchArgs.next());
                     }
-                    batchResult = executeBatch(handle, batch);
+                    batchResult = executeBatch(handle, parts.batch);
                     return hasNext(); // recurse to ensure we actually got elements
                 }
 
@@ -260,6 +269,31 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
         return magic.mappedResult(iterable, result.getContext());
     }
 
+    private ResultIterator<?> executeFlushing(Handle handle, String sql, Object[] args, int chunkSize, Iterator<Object[]> batchArgs) {
+        final PreparedBatch batch = handle.prepareBatch(sql).flushEvery(chunkSize);
+        try {
+            final BatchParts parts = new BatchParts(batch, args);
+            ResultIterator<?> result = null;
+            while (result == null) {
+                result = executeChunk(handle, () -> {
+                    // the last part of a full chunk flushes it, the remaining parts are executed with the batch
+                    for (int i = 0; i < chunkSize && batchArgs.hasNext(); i++) {
+                        parts.add(batchArgs.next());
+                    }
+                    return batchArgs.hasNext() ? null : batchIntermediate.apply(batch);
+                });
+            }
+            return result;
+        } catch (RuntimeException e) {
+            try {
+                batch.close();
+            } catch (RuntimeException e1) {
+                e.addSuppressed(e1);
+            }
+            throw e;
+        }
+    }
+
     private Iterator<Object[]> zipArgs(Method method, Object[] args) {
         boolean foundIterator = false;
         List<Iterator<?>> extras = new ArrayList<>();
@@ -302,12 +336,16 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
     }
 
     private ResultIterator<?> executeBatch(final Handle handle, final PreparedBatch batch) {
+        return executeChunk(handle, () -> batchIntermediate.apply(batch));
+    }
+
+    private ResultIterator<?> executeChunk(final Handle handle, final Supplier<ResultIterator<?>> chunk) {
         if (!handle.isInTransaction() && sqlBatch.transactional()) {
             // it is safe to use same prepared batch as the inTransaction passes in the same
             // Handle instance.
-            return handle.inTransaction(c -> batchIntermediate.apply(batch));
+            return handle.inTransaction(c -> chunk.get());
         } else {
-            return batchIntermediate.apply(batch);
+            return chunk.get();
         }
     }
 
@@ -330,6 +368,32 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
                 + method.getReturnType();
     }
 
+    /**
+     * Adds parts to a batch. The type and method customizers are applied once to the batch, and the
+     * parameter customizers to each part. Values bound by the former, such as the timestamp of
+     * {@code @Timestamped}, are bound to every part.
+     */
+    private final class BatchParts {
+        private final PreparedBatch batch;
+        private final Binding shared;
+
+        BatchParts(PreparedBatch batch, Object[] args) {
+            this.batch = batch;
+            applyStatementCustomizers(batch, args);
+            Binding binding = batch.getContext().getBinding();
+            this.shared = binding.isEmpty() ? null : binding;
+        }
+
+        void add(Object[] args) {
+            applyParameterCustomizers(batch, args);
+            // the first part is bound on top of the shared values, later parts fall back to them
+            if (shared != null && batch.getContext().getBinding() != shared) {
+                batch.bindNamedArgumentFinder(shared::findForName);
+            }
+            batch.add();
+        }
+    }
+
     private interface ChunkSizeFunction {
         int call(Object[] args);
     }
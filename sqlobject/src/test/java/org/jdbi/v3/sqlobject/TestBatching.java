@@ -13,17 +13,36 @@
  */
 package org.jdbi.v3.sqlobject;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
 import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.DefaultStatementBuilder;
+import org.jdbi.v3.core.statement.StatementBuilder;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.statement.BatchChunkSize;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -36,6 +55,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestBatching {
+    private static final AtomicInteger NAMES_APPLIED = new AtomicInteger();
+
     @Rule
     public H2DatabaseRule dbRule = new H2DatabaseRule().withPlugin(new SqlObjectPlugin());
     private Handle handle;
@@ -120,6 +141,55 @@ public class TestBatching {
         assertThat(counts).hasSize(5).containsOnly(1);
     }
 
+    @Test
+    public void testChunkedBatchingPreparesOnce() {
+        AtomicInteger prepared = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        StatementBuilder builder = new DefaultStatementBuilder() {
+            @Override
+            public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+                prepared.incrementAndGet();
+                return super.create(conn, sql, ctx);
+            }
+
+            @Override
+            public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+                closed.incrementAndGet();
+                super.close(conn, sql, stmt);
+            }
+        };
+        handle.setStatementBuilder(builder);
+
+        UsesBatching b = handle.attach(UsesBatching.class);
+        List<Something> things = Arrays.asList(new Something(1, "Brian"),
+                                               new Something(2, "Henri"),
+                                               new Something(3, "Patrick"),
+                                               new Something(4, "Robert"),
+                                               new Something(5, "Maniax"));
+        int[] counts = b.insertChunked(things);
+
+        assertThat(counts).hasSize(5).containsOnly(1);
+        assertThat(prepared.get()).isEqualTo(1);
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(handle.getStatementBuilder()).isSameAs(builder);
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Brian", "Henri", "Patrick", "Robert", "Maniax");
+    }
+
+    @Test
+    public void testChunkedBatchingCommitsEachChunk() {
+        UsesBatching b = handle.attach(UsesBatching.class);
+        List<Something> things = Arrays.asList(new Something(1, "Brian"),
+                                               new Something(2, "Henri"),
+                                               new Something(3, "Patrick"),
+                                               new Something(4, "Robert"),
+                                               new Something(1, "Maniax"));
+
+        assertThatThrownBy(() -> b.insertChunked(things)).isInstanceOf(UnableToExecuteStatementException.class);
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Brian", "Henri", "Patrick", "Robert");
+    }
+
     @Test(timeout = 5000)
     public void testNoIterable() {
         BadBatch b = handle.attach(BadBatch.class);
@@ -160,9 +230,45 @@ public class TestBatching {
         assertThat(dao.update(new Something(1, "baz"), new Something(3, "buz"))).containsExactly(true, false);
     }
 
+    @Test
+    public void testMethodCustomizersApplyOncePerBatch() {
+        NAMES_APPLIED.set(0);
+        UsesBatching b = handle.attach(UsesBatching.class);
+
+        assertThat(b.insertNamed(Arrays.asList(1, 2, 3, 4, 5))).containsExactly(1, 1, 1, 1, 1);
+
+        assertThat(NAMES_APPLIED).hasValue(1);
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("named", "named", "named", "named", "named");
+    }
+
+    @Test
+    public void testDefinePerPart() {
+        UsesBatching b = handle.attach(UsesBatching.class);
+
+        assertThat(b.insertDefined("something", Arrays.asList(1, 2, 3))).containsExactly(1, 1, 1);
+        assertThat(b.size()).isEqualTo(3);
+
+        // the SQL of a batch is rendered once, so its parts can't define different SQL
+        assertThatThrownBy(() -> b.insertDefinedEach(Arrays.asList("something", "other"), Arrays.asList(4, 5)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("attributes");
+    }
+
     @BatchChunkSize(4)
     @RegisterRowMapper(SomethingMapper.class)
     public interface UsesBatching {
+        @SqlBatch("insert into <table> (id, name) values (:id, 'defined')")
+        int[] insertDefined(@Define("table") String table, @Bind("id") Iterable<Integer> ids);
+
+        @SqlBatch("insert into <table> (id, name) values (:id, 'defined')")
+        int[] insertDefinedEach(@Define("table") Iterable<String> tables, @Bind("id") Iterable<Integer> ids);
+
+        @SqlBatch("insert into something (id, name) values (:id, :name)")
+        @BatchChunkSize(2)
+        @BindName("named")
+        int[] insertNamed(@Bind("id") Iterable<Integer> ids);
+
         @SqlBatch("insert into something (id, name) values (:id, :name)")
         int[] insertBeans(@BindBean Iterable<Something> elements);
 
@@ -207,4 +313,22 @@ public class TestBatching {
         @SqlBatch("update something set name = :name where id = :id")
         boolean[] update(@BindBean Something... values);
     }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @SqlStatementCustomizingAnnotation(BindName.Factory.class)
+    public @interface BindName {
+        String value();
+
+        class Factory implements SqlStatementCustomizerFactory {
+            @Override
+            public SqlStatementCustomizer createForMethod(Annotation annotation, Class<?> sqlObjectType, Method method) {
+                String name = ((BindName) annotation).value();
+                return stmt -> {
+                    NAMES_APPLIED.incrementAndGet();
+                    stmt.bind("name", name);
+                };
+            }
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TestGeneratedSqlObjects {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withPlugin(new SqlObjectPlugin());
+
+    private Handle handle;
+
+    @Before
+    public void setUp() {
+        dbRule.getJdbi().getConfig(SqlObjects.class).setGeneratedClasses(true);
+        handle = dbRule.openHandle();
+    }
+
+    @Test
+    public void testGeneratedClassImplementsSqlObject() {
+        Dao dao = handle.attach(Dao.class);
+        assertThat(Proxy.isProxyClass(dao.getClass())).isFalse();
+        assertThat(handle.attach(Dao.class).getClass()).isSameAs(dao.getClass());
+
+        dao.insert(1, "Alice");
+        dao.insert(2L, "Bob");
+        assertThat(dao.count()).isEqualTo(2);
+        assertThat(dao.sumIds()).isEqualTo(3L);
+        assertThat(dao.exists(2)).isTrue();
+        assertThat(dao.list()).containsExactly(new Something(1, "Alice"), new Something(2, "Bob"));
+        assertThat(dao.names()).containsExactly("Alice", "Bob");
+        assertThat(dao.describe(1, 'x', 1.5d)).isEqualTo("Alice x 1.5");
+        assertThat(dao.getHandle()).isSameAs(handle);
+    }
+
+    @Test
+    public void testObjectMethods() {
+        Dao dao = handle.attach(Dao.class);
+        Dao other = handle.attach(Dao.class);
+
+        assertThat(dao).isEqualTo(dao).isNotEqualTo(other);
+        assertThat(dao.hashCode()).isEqualTo(System.identityHashCode(dao));
+        assertThat(dao.toString()).startsWith(Dao.class.getName() + '@');
+    }
+
+    @Test
+    public void testExceptionsMatchProxy() {
+        Dao dao = handle.attach(Dao.class);
+        Dao proxy;
+        try (Handle other = dbRule.getJdbi().configure(SqlObjects.class, c -> c.setGeneratedClasses(false)).open()) {
+            proxy = other.attach(Dao.class);
+        }
+
+        for (Exception e : new Exception[] {new IOException("checked"), new IllegalStateException("unchecked")}) {
+            Throwable declared = catchThrowable(() -> dao.declared(e));
+            assertThat(declared).isExactlyInstanceOf(catchThrowable(() -> proxy.declared(e)).getClass());
+            assertThat(declared == e || declared.getCause() == e).isTrue();
+
+            Throwable undeclared = catchThrowable(() -> dao.undeclared(e));
+            assertThat(undeclared).isExactlyInstanceOf(catchThrowable(() -> proxy.undeclared(e)).getClass());
+            assertThat(undeclared == e || undeclared.getCause() == e).isTrue();
+        }
+    }
+
+    @Test
+    public void testOnDemand() {
+        Dao dao = dbRule.getJdbi().onDemand(Dao.class);
+        dao.insert(1, "Alice");
+        assertThat(dao.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNonPublicTypeUsesProxy() {
+        assertThat(Proxy.isProxyClass(handle.attach(NonPublicDao.class).getClass())).isTrue();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        try (Handle other = dbRule.getJdbi().configure(SqlObjects.class, c -> c.setGeneratedClasses(false)).open()) {
+            assertThat(Proxy.isProxyClass(other.attach(Dao.class).getClass())).isTrue();
+        }
+    }
+
+    @RegisterRowMapper(SomethingMapper.class)
+    public interface Dao extends SqlObject {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insert(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        int insert(@Bind("id") long id, @Bind("name") String name);
+
+        @SqlQuery("select count(*) from something")
+        int count();
+
+        @SqlQuery("select sum(id) from something")
+        long sumIds();
+
+        @SqlQuery("select count(*) > 0 from something where id = :id")
+        boolean exists(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something order by id")
+        List<Something> list();
+
+        @SqlQuery("select name from something order by id")
+        String[] names();
+
+        default String describe(int id, char separator, double value) {
+            String name = list().stream().filter(s -> s.getId() == id).findFirst().get().getName();
+            return name + ' ' + separator + ' ' + value;
+        }
+
+        default void declared(Exception e) throws Exception {
+            throw e;
+        }
+
+        default void undeclared(Exception e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    interface NonPublicDao extends SqlObject {
+        @SqlQuery("select count(*) from something")
+        int count();
+    }
+}
@@ -16,10 +16,33 @@ package org.jdbi.v3.sqlobject;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.sqlobject.config.Configurer;
+import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.junit.Rule;
 import org.junit.Test;
 
 public class TestSqlObjectFactory {
+    private static final AtomicInteger CONFIGURED = new AtomicInteger();
+    private static final AtomicInteger HANDLERS_BUILT = new AtomicInteger();
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withPlugin(new SqlObjectPlugin());
+
     private SqlObjectFactory factory = new SqlObjectFactory();
 
     @Test
@@ -33,6 +56,42 @@ public class TestSqlObjectFactory {
         assertThat(factory.accepts(ExtendsSqlObject.class)).isTrue();
     }
 
+    @Test
+    public void methodConfigurationIsComputedOncePerHandle() {
+        CONFIGURED.set(0);
+        Handle handle = dbRule.getSharedHandle();
+
+        for (int i = 0; i < 3; i++) {
+            Configured dao = handle.attach(Configured.class);
+            assertThat(dao.configured()).isEqualTo("yes");
+            assertThat(dao.leaked()).isNull();
+        }
+        assertThat(CONFIGURED).hasValue(1);
+        assertThat(handle.getConfig(SqlStatements.class).getAttribute("configured")).isNull();
+
+        try (Handle other = dbRule.openHandle()) {
+            assertThat(other.attach(Configured.class).configured()).isEqualTo("yes");
+        }
+        assertThat(CONFIGURED).hasValue(2);
+    }
+
+    @Test
+    public void handlerIsResolvedOncePerAttachedObject() {
+        HANDLERS_BUILT.set(0);
+        Handle handle = dbRule.getSharedHandle();
+        handle.getConfig(Handlers.class).register(new ExtensionMethodHandlerFactory());
+        Resolved dao = handle.attach(Resolved.class);
+
+        for (int i = 0; i < 3; i++) {
+            ExtensionMethod current = dao.extensionMethod();
+            assertThat(current.getType()).isEqualTo(Resolved.class);
+            assertThat(current.getMethod().getName()).isEqualTo("extensionMethod");
+        }
+
+        assertThat(handle.attach(Resolved.class).extensionMethod().getMethod().getName()).isEqualTo("extensionMethod");
+        assertThat(HANDLERS_BUILT).hasValue(1);
+    }
+
     abstract class NotASqlObject {
         abstract String foo(String id);
     }
@@ -47,4 +106,48 @@ public class TestSqlObjectFactory {
     }
 
     public interface ExtendsSqlObject extends SqlObject {}
+
+    public interface Configured extends SqlObject {
+        @CountingConfiguration
+        default Object configured() {
+            return getHandle().getConfig(SqlStatements.class).getAttribute("configured");
+        }
+
+        @CountingConfiguration
+        default Object leaked() {
+            Object leaked = getHandle().getConfig(SqlStatements.class).getAttribute("leaked");
+            getHandle().define("leaked", "yes");
+            return leaked;
+        }
+    }
+
+    public interface Resolved extends SqlObject {
+        ExtensionMethod extensionMethod();
+    }
+
+    public static class ExtensionMethodHandlerFactory implements HandlerFactory {
+        @Override
+        public Optional<Handler> buildHandler(Class<?> sqlObjectType, Method method) {
+            if (!method.getName().equals("extensionMethod")) {
+                return Optional.empty();
+            }
+            HANDLERS_BUILT.incrementAndGet();
+            return Optional.of((target, args, handle) -> handle.getHandle().getExtensionMethod());
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @ConfiguringAnnotation(CountingConfigurer.class)
+    public @interface CountingConfiguration {}
+
+    public static class CountingConfigurer implements Configurer {
+        @Override
+        public void configureForMethod(ConfigRegistry registry, Annotation annotation, Class<?> sqlObjectType, Method method) {
+            if (method.getName().equals("configured")) {
+                CONFIGURED.incrementAndGet();
+            }
+            registry.get(SqlStatements.class).define("configured", "yes");
+        }
+    }
 }